@@ -1,7 +1,7 @@
 module java.decita.api {
     requires static lombok;
-    requires org.hamcrest;
     exports ru.ewc.decisions.input;
     exports ru.ewc.decisions.api;
+    exports ru.ewc.decita.core.value;
     exports ru.ewc.state;
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * I am the {@link Locator} backed by a non-blocking data source, e.g. an asynchronous HTTP client.
+ * The values I provide for the asynchronous decisions are read without parking the calling
+ * thread, see {@link ComputationContext#decisionForAsync(String)}.
+ *
+ * @since 0.10.0
+ */
+public interface AsyncLocator extends Locator {
+    /**
+     * Starts reading the value of a single property.
+     *
+     * @param fragment The String identifier of the required property.
+     * @param context The {@link ComputationContext} the property is read for.
+     * @return The future value of the requested property.
+     */
+    CompletableFuture<String> fragmentAsync(String fragment, ComputationContext context);
+
+    /**
+     * Reads the value of a single property, waiting for it. Used for the values that are not
+     * known in advance, e.g. the ones of dynamic coordinates.
+     *
+     * @param fragment The String identifier of the required property.
+     * @param context The {@link ComputationContext} to use in property retrieval.
+     * @return The value of the requested property.
+     * @throws DecitaException When the requested property cannot be read.
+     */
+    @Override
+    default String fragmentBy(final String fragment, final ComputationContext context)
+        throws DecitaException {
+        return this.fragmentAsync(fragment, context).join();
+    }
+}
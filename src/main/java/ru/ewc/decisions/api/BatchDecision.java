@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import ru.ewc.decisions.core.ExecutionContext;
+import ru.ewc.state.State;
+
+/**
+ * I am the decision of a single table for many {@link State}s. I split the states into chunks
+ * that are decided in parallel. Every chunk reuses the same scratch session for all of its states,
+ * so deciding a state costs no more than a {@link ComputationContext} wrapper around it.
+ *
+ * @since 0.10.0
+ */
+final class BatchDecision extends RecursiveAction {
+    /**
+     * The number of states that is not worth splitting any further.
+     */
+    private static final long CHUNK = 1024;
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The decision tables to use.
+     */
+    private final transient DecisionTables tables;
+
+    /**
+     * The name of the table to decide.
+     */
+    private final String name;
+
+    /**
+     * The states to decide the table for.
+     */
+    private final transient Spliterator<State> states;
+
+    /**
+     * The receiver of every state's outcome.
+     */
+    private final transient BiConsumer<State, Map<String, String>> consumer;
+
+    /**
+     * Ctor.
+     *
+     * @param tables The decision tables to use.
+     * @param name The name of the table to decide.
+     * @param states The states to decide the table for.
+     * @param consumer The receiver of every state's outcome, called concurrently.
+     */
+    BatchDecision(
+        final DecisionTables tables,
+        final String name,
+        final Spliterator<State> states,
+        final BiConsumer<State, Map<String, String>> consumer
+    ) {
+        super();
+        this.tables = tables;
+        this.name = name;
+        this.states = states;
+        this.consumer = consumer;
+    }
+
+    @Override
+    protected void compute() {
+        final Spliterator<State> split;
+        if (this.states.estimateSize() > BatchDecision.CHUNK) {
+            split = this.states.trySplit();
+        } else {
+            split = null;
+        }
+        if (split == null) {
+            this.decideChunk();
+        } else {
+            RecursiveAction.invokeAll(
+                new BatchDecision(this.tables, this.name, split, this.consumer),
+                new BatchDecision(this.tables, this.name, this.states, this.consumer)
+            );
+        }
+    }
+
+    /**
+     * Decides the table for all the remaining states, one by one, in the same scratch session.
+     */
+    private void decideChunk() {
+        final ExecutionContext session = new ExecutionContext();
+        final OutputPublisher<String> publisher = new OutputPublisher<>();
+        this.states.forEachRemaining(
+            state -> {
+                session.clear();
+                this.consumer.accept(
+                    state,
+                    new ComputationContext(state, this.tables, publisher, session)
+                        .decisionFor(this.name)
+                );
+            }
+        );
+    }
+}
@@ -25,15 +25,29 @@
 package ru.ewc.decisions.api;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import ru.ewc.decisions.core.Coordinate;
 import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.core.ExecutionContext;
 import ru.ewc.decisions.input.CombinedCsvFileReader;
 import ru.ewc.state.State;
 
 /**
- * I am the facade for all TruthTable evaluations and Commands executions.
+ * I am the facade for all TruthTable evaluations and Commands executions. I represent a single
+ * decision-making session: the shared {@link DecisionTables} are never changed by me, all the
+ * session's evaluation results are kept in my own {@link ExecutionContext}.
  *
  * @since 0.1
  */
@@ -42,7 +56,7 @@ public final class ComputationContext {
     /**
      * The storage of decision tables.
      */
-    private DecisionTables tables;
+    private final DecisionTables tables;
 
     /**
      * The storage of the current state of the system.
@@ -54,6 +68,32 @@ public final class ComputationContext {
      */
     private final OutputPublisher<String> publisher;
 
+    /**
+     * The evaluation results of this session.
+     */
+    private final ExecutionContext session;
+
+    /**
+     * The watched tables, keyed by their names.
+     */
+    private final Map<String, Watch> watches;
+
+    /**
+     * The values written by the command being performed, keyed by the locator and fragment names.
+     */
+    private final Map<String, Map<String, String>> writes;
+
+    /**
+     * The failures of the tables evaluated in parallel in advance, keyed by the failed table
+     * itself. A failure is rethrown only when its table is actually read.
+     */
+    private final Map<Object, RuntimeException> failures;
+
+    /**
+     * The number of commands being performed, the watchers are notified after the outermost one.
+     */
+    private int performing;
+
     public ComputationContext(final State state, final URI tables) {
         this(state, ComputationContext.getAllTables(tables));
     }
@@ -72,10 +112,31 @@ public final class ComputationContext {
         final State state,
         final DecisionTables tables,
         final OutputPublisher<String> publisher
+    ) {
+        this(state, tables, publisher, new ExecutionContext());
+    }
+
+    /**
+     * Primary Ctor.
+     *
+     * @param state The {@link State} instance to use.
+     * @param tables The {@link DecisionTables} instance to use.
+     * @param publisher The publisher of the computation events.
+     * @param session The storage of the evaluation results, possibly reused by many contexts.
+     */
+    ComputationContext(
+        final State state,
+        final DecisionTables tables,
+        final OutputPublisher<String> publisher,
+        final ExecutionContext session
     ) {
         this.state = state.extendedWithConstant();
         this.tables = tables;
         this.publisher = publisher;
+        this.session = session;
+        this.watches = new LinkedHashMap<>();
+        this.writes = new LinkedHashMap<>();
+        this.failures = new IdentityHashMap<>();
     }
 
     public OutputTracker<String> startTracking() {
@@ -86,6 +147,94 @@ public final class ComputationContext {
         this.publisher.track("%s: %s".formatted(type.name(), message));
     }
 
+    /**
+     * Logs the computation event, formatting its message only if someone tracks the events.
+     *
+     * @param type The type of the computation event.
+     * @param format The format of the event's message.
+     * @param args The arguments for the event's message.
+     */
+    public void logComputation(
+        final OutputTracker.EventType type,
+        final String format,
+        final Object... args
+    ) {
+        if (this.publisher.hasTrackers()) {
+            this.logComputation(type, format.formatted(args));
+        }
+    }
+
+    /**
+     * Provides the evaluation result for the specified decision graph's node. The node is computed
+     * only once per this context, unless the state fragments it read are changed via this context.
+     * If the node is a table failed while being evaluated in parallel in advance, its failure is
+     * rethrown here.
+     *
+     * @param node The node to get the evaluation result for.
+     * @param computation The computation that produces the node's result.
+     * @param <T> The type of the result.
+     * @return The evaluation result of the node.
+     */
+    public <T> T resultOf(final Object node, final Supplier<T> computation) {
+        final RuntimeException failure = this.failures.remove(node);
+        if (failure != null) {
+            throw failure;
+        }
+        return this.session.resultOf(node, computation);
+    }
+
+    /**
+     * Computes the value as a part of the specified node's result, so that the node's result is
+     * forgotten when some state fragment read by the computation is changed via this context.
+     *
+     * @param node The node the value belongs to.
+     * @param computation The computation of the value.
+     * @param <T> The type of the value.
+     * @return The computed value.
+     */
+    public <T> T partOf(final Object node, final Supplier<T> computation) {
+        return this.session.partOf(node, computation);
+    }
+
+    /**
+     * Provides the remote object, fetching it at most once per this context, no matter how many
+     * of its fields are used.
+     *
+     * @param source The name of the object's source.
+     * @param key The key of the object in its source.
+     * @param fetch The actual fetch of the object.
+     * @param <T> The type of the object.
+     * @return The remote object.
+     */
+    public <T> T remoteObject(final String source, final Object key, final Supplier<T> fetch) {
+        return this.session.remoteObject(source, key, fetch);
+    }
+
+    /**
+     * Provides the value parsed from the specified text, parsing it at most once per this
+     * context. The parsed values are keyed by their text only, so the same parser has to be used
+     * for every text.
+     *
+     * @param text The text of the value.
+     * @param parser The actual parsing of the text.
+     * @param <T> The type of the parsed value.
+     * @return The parsed value.
+     */
+    public <T> T parsed(final String text, final Function<String, T> parser) {
+        return this.session.parsed(text, parser);
+    }
+
+    /**
+     * Provides the number of node evaluations (e.g. chained tables' outcomes), state fragments'
+     * reads and remote fetches that were served from this context's cache instead of being done
+     * again. Used for tracing and debugging.
+     *
+     * @return The number of evaluations, reads and fetches saved in this context.
+     */
+    public int cacheHits() {
+        return this.session.hits();
+    }
+
     /**
      * Computes the specified {@link DecisionTable} result as a Dictionary. This method is used by
      * unit-tests and the library's clients.
@@ -95,15 +244,123 @@ public final class ComputationContext {
      * @throws DecitaException If the table could not be found or computed.
      */
     public Map<String, String> decisionFor(final String name) throws DecitaException {
-        return ((DecisionTable) this.tables.locatorFor(name)).outcome(this);
+        final DecisionTable table = (DecisionTable) this.tables.locatorFor(name);
+        if (!this.session.hasResultFor(table)) {
+            this.evaluateInParallel(
+                this.tables.engine().parallelDependenciesOf(name).stream()
+                    .filter(dependency -> !this.session.hasResultFor(dependency))
+                    .toList()
+            );
+        }
+        return table.outcome(this);
+    }
+
+    /**
+     * Reads in advance all the state values the specified table may need. The values of every
+     * {@link Locator} are read in a separate task on the specified executor, so the independent
+     * locators (e.g. backed by different services) are read concurrently. The values are then
+     * served from this context's cache.
+     *
+     * @param name The name of the table to read the values for.
+     * @param pool The executor to read the locators on.
+     * @return This context with the values read.
+     * @throws DecitaException If some value could not be read.
+     */
+    public ComputationContext prefetch(final String name, final Executor pool)
+        throws DecitaException {
+        final Map<String, List<Coordinate>> reads = this.tables.engine()
+            .coordinatesReadBy(name).stream()
+            .filter(coordinate -> this.state.hasLocator(coordinate.locatorName()))
+            .collect(
+                Collectors.groupingBy(
+                    Coordinate::locatorName,
+                    LinkedHashMap::new,
+                    Collectors.toList()
+                )
+            );
+        for (final ComputationContext fork : DecisionEngine.inParallel(
+            List.copyOf(reads.values()), this::readIn, pool
+        )) {
+            this.session.adopt(fork.session, this);
+        }
+        return this;
+    }
+
+    /**
+     * Performs the specified command as a transaction. The command's assignments are written to
+     * this context only, where the subsequent assignments read them. Once the whole command is
+     * performed, the values are written to the state, all the values of a locator at once. If the
+     * command fails, the state stays as it was. The watchers of the tables whose outcomes are
+     * changed by the command are notified once the values are written.
+     *
+     * @param command The name of the command to perform.
+     * @throws DecitaException If the command could not be found or performed.
+     */
+    public void perform(final String command) throws DecitaException {
+        this.performing = this.performing + 1;
+        boolean performed = false;
+        try {
+            ((DecisionTable) this.tables.locatorFor(command)).perform(this);
+            performed = true;
+        } finally {
+            this.performing = this.performing - 1;
+            if (this.performing == 0) {
+                this.finishWrites(performed);
+            }
+        }
+        this.notifyWatchers();
+    }
+
+    /**
+     * Starts watching the outcome of the specified table. Whenever the state is changed via this
+     * context, the listener receives the fields of the outcome that changed, with their new
+     * values; the fields that are no longer there are reported as {@code undefined}. Only the
+     * watched tables depending on the changed values are computed again, so that a change that
+     * does not affect the table costs nothing.
+     *
+     * @param name The name of the table to watch.
+     * @param listener The receiver of the outcome's changes.
+     * @return This context, with the table watched.
+     * @throws DecitaException If the table could not be found or computed.
+     */
+    public ComputationContext watch(
+        final String name,
+        final Consumer<Map<String, String>> listener
+    ) throws DecitaException {
+        this.watches
+            .computeIfAbsent(name, key -> new Watch(this.decisionFor(key)))
+            .listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Computes the specified {@link DecisionTable} result without blocking on the data access.
+     * All the values the table may read from the {@link AsyncLocator}s are requested at once,
+     * and the table is evaluated, in the thread completing the last of them, only when all of them
+     * are available. This context must not be used until the returned future completes.
+     *
+     * @param name The name of the table to compute.
+     * @return The future Dictionary containing the decision result.
+     */
+    public CompletableFuture<Map<String, String>> decisionForAsync(final String name) {
+        return this.asyncReadsFor(name).thenApply(ignored -> this.decisionFor(name));
     }
 
-    public void perform(final String command) {
-        ((DecisionTable) this.tables.locatorFor(command)).perform(this);
+    /**
+     * Performs the specified command without blocking on the data access, see
+     * {@link #decisionForAsync(String)}.
+     *
+     * @param command The name of the command to perform.
+     * @return The future completed once the command is performed.
+     */
+    public CompletableFuture<Void> performAsync(final String command) {
+        return this.asyncReadsFor(command).thenRun(() -> this.perform(command));
     }
 
     /**
-     * Finds a {@link Coordinate}'s value using internal set of {@link Locator}'s.
+     * Finds a {@link Coordinate}'s value using internal set of {@link Locator}'s. The state values
+     * are read only once per this context, every subsequent read of the same fragment is served
+     * from the session cache until the fragment is changed via this context.
      *
      * @param locator String identifier of the {@link Locator} to use.
      * @param fragment String identifier of the value to find.
@@ -111,17 +368,24 @@ public final class ComputationContext {
      * @throws DecitaException If the {@link Locator} wasn't found in the context.
      */
     public String valueFor(final String locator, final String fragment) throws DecitaException {
-        final Locator found;
+        final String result;
         if (this.tables.hasLocator(locator)) {
-            found = this.tables.locatorFor(locator);
+            result = this.tables.locatorFor(locator).fragmentBy(fragment, this);
+        } else if (Locator.CONSTANT_VALUES.equals(locator)) {
+            result = this.state.locatorFor(locator).fragmentBy(fragment, this);
         } else {
-            found = this.state.locatorFor(locator);
+            result = this.session.fragmentValue(
+                locator,
+                fragment,
+                () -> this.stateValue(locator, fragment)
+            );
         }
-        return found.fragmentBy(fragment, this);
+        return result;
     }
 
     /**
-     * Sets the value of the fragment in the context.
+     * Sets the value of the fragment in the context. While a command is performed, the value is
+     * written to the state only when the whole command succeeds.
      *
      * @param loc The name of the locator to set the value of.
      * @param frag The name of the fragment to set the value of.
@@ -130,7 +394,14 @@ public final class ComputationContext {
      */
     public ComputationContext setValueFor(final String loc, final String frag, final String value) {
         final Locator found = this.state.locatorFor(loc);
-        found.setFragmentValue(frag, value);
+        if (this.performing == 0) {
+            found.setFragmentValue(frag, value);
+        } else {
+            this.writes.computeIfAbsent(loc, name -> new LinkedHashMap<>()).put(frag, value);
+        }
+        this.failures.clear();
+        this.session.invalidate(loc, frag);
+        this.notifyWatchers();
         return this;
     }
 
@@ -149,19 +420,269 @@ public final class ComputationContext {
 
     /**
      * Used by client applications to reset the computation state, i.e. between tests or
-     * recalculations of {@link DecisionTables}.
-*
+     * recalculations of {@link DecisionTables}. Only the results computed from the cleared
+     * locator are forgotten, the compiled tables are immutable and stay as they are.
+     *
      * @param loc The name of the incoming data locator, that should be cleared.
      */
     @SuppressWarnings("unused")
     public void resetComputationState(final String loc) {
-        this.tables = this.tables.reset();
         if (this.state.hasLocator(loc) && this.state.locatorFor(loc) instanceof InMemoryLocator) {
             ((InMemoryLocator) this.state.locatorFor(loc)).reset();
         }
+        this.failures.clear();
+        this.session.invalidate(loc);
+        this.notifyWatchers();
+    }
+
+    /**
+     * Reads the value of the state fragment, as written by the command being performed, if any.
+     *
+     * @param locator The name of the fragment's locator.
+     * @param fragment The name of the fragment.
+     * @return The value of the fragment.
+     */
+    private String stateValue(final String locator, final String fragment) {
+        final String written = this.writes.getOrDefault(locator, Map.of()).get(fragment);
+        final String result;
+        if (written == null) {
+            result = this.state.locatorFor(locator).fragmentBy(fragment, this);
+        } else {
+            result = written;
+        }
+        return result;
+    }
+
+    /**
+     * Finishes the performed command: writes its values to the state, if it succeeded, or forgets
+     * them and everything computed from them otherwise.
+     *
+     * @param performed Whether the command succeeded.
+     */
+    private void finishWrites(final boolean performed) {
+        this.writes.forEach(
+            (locator, values) -> {
+                if (performed) {
+                    this.state.locatorFor(locator).setFragmentValues(values);
+                } else {
+                    this.failures.clear();
+                    values.keySet().forEach(fragment -> this.session.invalidate(locator, fragment));
+                }
+            }
+        );
+        this.writes.clear();
+    }
+
+    /**
+     * Tells the watchers about the changed outcomes of their tables, unless a command is being
+     * performed. Only the tables whose outcomes were forgotten by the session are computed again.
+     */
+    private void notifyWatchers() {
+        if (this.performing == 0) {
+            this.watches.forEach(
+                (name, watch) -> {
+                    if (!this.session.hasResultFor(this.tables.locatorFor(name))) {
+                        watch.update(this.decisionFor(name));
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Evaluates the independent tables in parallel, each in its own fork of this context, and
+     * takes over their results and events. The failures are held until the failed tables are
+     * read, since the tables being decided may never read them, e.g. under the first-hit policy.
+     *
+     * @param dependencies The independent tables to evaluate.
+     */
+    private void evaluateInParallel(final List<DecisionTable> dependencies) {
+        if (dependencies.size() > 1) {
+            final DecisionEngine engine = this.tables.engine();
+            for (final Fork fork : engine.evaluatedConcurrently(dependencies, this::forkFor)) {
+                if (fork.failure.isPresent()) {
+                    this.failures.put(fork.table, fork.failure.get());
+                } else {
+                    this.session.adopt(fork.context.session, this);
+                }
+                fork.events.events().forEach(this.publisher::track);
+            }
+        }
+    }
+
+    /**
+     * Requests all the values the table may read from the {@link AsyncLocator}s. Once they all
+     * are available, they are stored in this context's cache.
+     *
+     * @param name The name of the table to read the values for.
+     * @return The future completed once all the values are stored.
+     */
+    private CompletableFuture<Void> asyncReadsFor(final String name) {
+        final Map<Coordinate, CompletableFuture<String>> reads = new LinkedHashMap<>();
+        for (final Coordinate coordinate : this.tables.engine().coordinatesReadBy(name)) {
+            final String locator = coordinate.locatorName();
+            if (this.state.hasLocator(locator)
+                && this.state.locatorFor(locator) instanceof AsyncLocator) {
+                reads.put(
+                    coordinate,
+                    ((AsyncLocator) this.state.locatorFor(locator))
+                        .fragmentAsync(coordinate.fragmentName(), this)
+                );
+            }
+        }
+        return CompletableFuture.allOf(reads.values().toArray(new CompletableFuture<?>[0]))
+            .thenRun(
+                () -> reads.forEach(
+                    (coordinate, value) -> this.session.fragmentValue(
+                        coordinate.locatorName(),
+                        coordinate.fragmentName(),
+                        value::join
+                    )
+                )
+            );
+    }
+
+    /**
+     * Reads the values in a new context over the same state and tables.
+     *
+     * @param coordinates The coordinates to read.
+     * @return The context holding the read values.
+     */
+    private ComputationContext readIn(final List<Coordinate> coordinates) {
+        final ComputationContext result = new ComputationContext(
+            this.state, this.tables, new OutputPublisher<>()
+        );
+        coordinates.forEach(coordinate -> coordinate.valueIn(result));
+        return result;
+    }
+
+    /**
+     * Evaluates the table in a new context over the same state and tables. The fork collects its
+     * events only if this context is tracked, and keeps the failure of the evaluation, if any.
+     *
+     * @param table The table to evaluate.
+     * @return The fork that evaluated the table.
+     */
+    private Fork forkFor(final DecisionTable table) {
+        final OutputPublisher<String> events = new OutputPublisher<>();
+        final OutputTracker<String> tracker;
+        if (this.publisher.hasTrackers()) {
+            tracker = events.createTracker();
+        } else {
+            tracker = new OutputTracker<>();
+        }
+        final ComputationContext context = new ComputationContext(this.state, this.tables, events);
+        Optional<RuntimeException> failure;
+        try {
+            table.evaluateIn(context);
+            failure = Optional.empty();
+        } catch (final RuntimeException ex) {
+            failure = Optional.of(ex);
+        }
+        return new Fork(table, context, tracker, failure);
     }
 
     private static DecisionTables getAllTables(final URI tables) {
         return DecisionTables.using(new CombinedCsvFileReader(tables, ".csv", ";"));
     }
+
+    /**
+     * I am the forked {@link ComputationContext} that evaluated a table in parallel, together
+     * with the events it collected and the failure of the evaluation, if any.
+     *
+     * @since 0.10.0
+     */
+    private static final class Fork {
+        /**
+         * The table evaluated in the fork.
+         */
+        private final DecisionTable table;
+
+        /**
+         * The forked context.
+         */
+        private final ComputationContext context;
+
+        /**
+         * The events collected by the forked context.
+         */
+        private final OutputTracker<String> events;
+
+        /**
+         * The failure of the table's evaluation, if any.
+         */
+        private final Optional<RuntimeException> failure;
+
+        /**
+         * Ctor.
+         *
+         * @param table The table evaluated in the fork.
+         * @param context The forked context.
+         * @param events The events collected by the forked context.
+         * @param failure The failure of the table's evaluation, if any.
+         */
+        Fork(
+            final DecisionTable table,
+            final ComputationContext context,
+            final OutputTracker<String> events,
+            final Optional<RuntimeException> failure
+        ) {
+            this.table = table;
+            this.context = context;
+            this.events = events;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * I am the watched table: its last known outcome and the receivers of its changes.
+     *
+     * @since 0.10.0
+     */
+    private static final class Watch {
+        /**
+         * The receivers of the outcome's changes.
+         */
+        private final List<Consumer<Map<String, String>>> listeners;
+
+        /**
+         * The last known outcome of the table.
+         */
+        private Map<String, String> last;
+
+        /**
+         * Ctor.
+         *
+         * @param outcome The current outcome of the table.
+         */
+        Watch(final Map<String, String> outcome) {
+            this.listeners = new ArrayList<>(1);
+            this.last = outcome;
+        }
+
+        /**
+         * Remembers the recomputed outcome and tells the listeners about its changed fields, if
+         * any.
+         *
+         * @param outcome The recomputed outcome of the table.
+         */
+        void update(final Map<String, String> outcome) {
+            final Map<String, String> changes = new LinkedHashMap<>();
+            outcome.forEach(
+                (field, value) -> {
+                    if (!value.equals(this.last.get(field))) {
+                        changes.put(field, value);
+                    }
+                }
+            );
+            this.last.keySet().stream()
+                .filter(field -> !outcome.containsKey(field))
+                .forEach(field -> changes.put(field, "undefined"));
+            this.last = outcome;
+            if (!changes.isEmpty()) {
+                final Map<String, String> diff = Collections.unmodifiableMap(changes);
+                this.listeners.forEach(listener -> listener.accept(diff));
+            }
+        }
+    }
 }
@@ -0,0 +1,315 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.DecisionGraph;
+import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.input.ContentsReader;
+import ru.ewc.state.State;
+
+/**
+ * I am the way the {@link DecisionTables} are compiled and evaluated. I hold the immutable
+ * {@link DecisionGraph}, compiled with the chosen {@link HitPolicy} and {@link EvaluationMode},
+ * and schedule the evaluations that go beyond a single {@link ComputationContext}: the parallel
+ * evaluation of the independent tables, the batch, streaming and columnar decisions.
+ *
+ * @since 0.10.0
+ */
+final class DecisionEngine {
+    /**
+     * The {@link HitPolicy} for the tables that do not declare their own one.
+     */
+    private final HitPolicy policy;
+
+    /**
+     * The way the tables look for their satisfied rules.
+     */
+    private final EvaluationMode mode;
+
+    /**
+     * The compiled decision tables.
+     */
+    private final DecisionGraph graph;
+
+    /**
+     * The executor to evaluate the independent tables in parallel on, if enabled.
+     */
+    private final Optional<Executor> executor;
+
+    /**
+     * Ctor.
+     *
+     * @param policy The {@link HitPolicy} for the tables that do not declare their own one.
+     * @param mode The way the tables look for their satisfied rules.
+     * @param graph The compiled decision tables.
+     * @param executor The executor to evaluate the independent tables on, if enabled.
+     */
+    private DecisionEngine(
+        final HitPolicy policy,
+        final EvaluationMode mode,
+        final DecisionGraph graph,
+        final Optional<Executor> executor
+    ) {
+        this.policy = policy;
+        this.mode = mode;
+        this.graph = graph;
+        this.executor = executor;
+    }
+
+    /**
+     * Reads and compiles all the decision tables.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @param policy The {@link HitPolicy} for the tables that do not declare their own one.
+     * @param mode The way the tables look for their satisfied rules.
+     * @return The engine evaluating the compiled tables sequentially.
+     * @throws DecitaException If some table's rules do not conform to its {@link HitPolicy}.
+     */
+    static DecisionEngine compiled(
+        final ContentsReader contents,
+        final HitPolicy policy,
+        final EvaluationMode mode
+    ) throws DecitaException {
+        return new DecisionEngine(
+            policy,
+            mode,
+            new DecisionGraph(contents.readAll(), policy, mode),
+            Optional.empty()
+        );
+    }
+
+    /**
+     * Reads and compiles all the decision tables again, the same way they were compiled before.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @return The engine evaluating the recompiled tables.
+     * @throws DecitaException If some table's rules do not conform to its {@link HitPolicy}.
+     */
+    DecisionEngine recompiled(final ContentsReader contents) throws DecitaException {
+        final DecisionEngine result = DecisionEngine.compiled(contents, this.policy, this.mode);
+        return this.executor.map(result::inParallelOn).orElse(result);
+    }
+
+    /**
+     * Enables the parallel evaluation of the independent tables, see
+     * {@link DecisionTables#inParallelOn(Executor)}.
+     *
+     * @param pool The executor to evaluate the tables on.
+     * @return The engine sharing the compiled tables with this one.
+     */
+    DecisionEngine inParallelOn(final Executor pool) {
+        return new DecisionEngine(this.policy, this.mode, this.graph, Optional.of(pool));
+    }
+
+    /**
+     * Provides the compiled decision tables.
+     *
+     * @return The compiled decision tables.
+     */
+    DecisionGraph graph() {
+        return this.graph;
+    }
+
+    /**
+     * Decides the table for every state, see
+     * {@link DecisionTables#decideAll(String, Spliterator, BiConsumer)}.
+     *
+     * @param tables The decision tables evaluated by this engine.
+     * @param name The name of the table to decide.
+     * @param states The states to decide the table for.
+     * @param consumer The receiver of every state's outcome.
+     * @throws DecitaException If the table could not be found or computed for some state.
+     */
+    void decideAll(
+        final DecisionTables tables,
+        final String name,
+        final Spliterator<State> states,
+        final BiConsumer<State, Map<String, String>> consumer
+    ) throws DecitaException {
+        ForkJoinPool.commonPool().invoke(new BatchDecision(tables, name, states, consumer));
+    }
+
+    /**
+     * Creates the processor deciding the table for the stream of states, see
+     * {@link DecisionTables#processorFor(String, Executor, int)}.
+     *
+     * @param tables The decision tables evaluated by this engine.
+     * @param name The name of the table to decide.
+     * @param pool The executor to decide the states on.
+     * @param parallelism The maximum number of states to decide at once.
+     * @return The processor publishing the outcomes in the order of the states.
+     * @throws DecitaException If the table could not be found or the parallelism is not positive.
+     */
+    DecisionProcessor processorFor(
+        final DecisionTables tables,
+        final String name,
+        final Executor pool,
+        final int parallelism
+    ) throws DecitaException {
+        tables.locatorFor(name);
+        return new DecisionProcessor(tables, name, pool, parallelism);
+    }
+
+    /**
+     * Decides the table for many records at once, see
+     * {@link DecisionTables#decideColumns(String, Map)}.
+     *
+     * @param tables The decision tables evaluated by this engine.
+     * @param name The name of the table to decide.
+     * @param columns The values of the records, keyed by their coordinates.
+     * @return The outcome of every record, in the order of the columns' values.
+     * @throws DecitaException If the table cannot be decided over the columns.
+     */
+    List<Map<String, String>> decideColumns(
+        final DecisionTables tables,
+        final String name,
+        final Map<String, double[]> columns
+    ) throws DecitaException {
+        final Set<Integer> sizes = columns.values().stream()
+            .map(column -> column.length)
+            .collect(Collectors.toSet());
+        if (sizes.size() > 1) {
+            throw new DecitaException("%s - Columns differ in length".formatted(name));
+        }
+        return ((DecisionTable) tables.locatorFor(name)).outcomesOver(
+            columns,
+            sizes.stream().findFirst().orElse(0),
+            new ComputationContext(new State(List.of()), tables)
+        );
+    }
+
+    /**
+     * Provides the descriptions of the state coordinates the table may read, see
+     * {@link DecisionTables#readsOf(String)}.
+     *
+     * @param name The name of the table.
+     * @return The descriptions of the coordinates, in the order they are met in the tables.
+     */
+    Set<String> readsOf(final String name) {
+        return this.coordinatesReadBy(name).stream()
+            .map(Coordinate::asString)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Provides the state coordinates the specified table may read, see
+     * {@link DecisionTables#readsOf(String)}.
+     *
+     * @param name The name of the table.
+     * @return The state {@link Coordinate}s.
+     */
+    Set<Coordinate> coordinatesReadBy(final String name) {
+        return this.graph.readsOf(name);
+    }
+
+    /**
+     * Provides the tables the specified table depends on, which could be evaluated in parallel.
+     *
+     * @param name The name of the dependent table.
+     * @return The independent tables, or an empty list if the parallel evaluation is disabled.
+     */
+    List<DecisionTable> parallelDependenciesOf(final String name) {
+        return this.executor
+            .map(pool -> this.graph.independentDependenciesOf(name))
+            .orElse(List.of());
+    }
+
+    /**
+     * Evaluates the independent tables concurrently on this engine's executor and waits for all
+     * of them.
+     *
+     * @param tables The tables to evaluate.
+     * @param evaluation The evaluation of a single table.
+     * @param <T> The type of the evaluation result.
+     * @return The evaluation results, in the order of the tables.
+     * @throws DecitaException If some evaluation failed.
+     */
+    <T> List<T> evaluatedConcurrently(
+        final List<DecisionTable> tables,
+        final Function<DecisionTable, T> evaluation
+    ) {
+        return DecisionEngine.inParallel(tables, evaluation, this.executor.orElseThrow());
+    }
+
+    /**
+     * Runs the evaluations concurrently and waits for all of them.
+     *
+     * @param items The items to evaluate.
+     * @param evaluation The evaluation of a single item.
+     * @param pool The executor to run the evaluations on.
+     * @param <S> The type of the items.
+     * @param <T> The type of the evaluation result.
+     * @return The evaluation results, in the order of the items.
+     * @throws DecitaException If some evaluation failed.
+     */
+    static <S, T> List<T> inParallel(
+        final List<S> items,
+        final Function<S, T> evaluation,
+        final Executor pool
+    ) {
+        final List<CompletableFuture<T>> futures = items.stream()
+            .map(item -> CompletableFuture.supplyAsync(() -> evaluation.apply(item), pool))
+            .toList();
+        final List<T> result;
+        try {
+            result = futures.stream().map(CompletableFuture::join).toList();
+        } catch (final CompletionException ex) {
+            throw DecisionEngine.unwrapped(ex);
+        }
+        return result;
+    }
+
+    /**
+     * Provides the actual failure of the parallel evaluation. The unchecked failures are rethrown
+     * as they are, the checked ones are wrapped keeping them as the cause.
+     *
+     * @param failure The failure of the parallel evaluation.
+     * @return The exception to rethrow.
+     */
+    private static RuntimeException unwrapped(final CompletionException failure) {
+        final Throwable cause = failure.getCause();
+        final RuntimeException result;
+        if (cause instanceof RuntimeException) {
+            result = (RuntimeException) cause;
+        } else {
+            result = new DecitaException(String.valueOf(cause), cause);
+        }
+        return result;
+    }
+}
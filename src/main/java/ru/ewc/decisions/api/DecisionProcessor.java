@@ -0,0 +1,405 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import ru.ewc.decisions.core.ExecutionContext;
+import ru.ewc.state.State;
+
+/**
+ * I am the stream of decisions of a single table. I decide the table for every incoming
+ * {@link State} and publish the outcomes to my only subscriber in the order the states came in.
+ * Up to {@code parallelism} states are requested from upstream and decided at once, and the next
+ * state is requested only when an outcome is delivered downstream, so a slow subscriber slows
+ * down the publisher instead of letting the outcomes pile up. The scratch sessions are reused
+ * for the subsequent states.
+ *
+ * <p>A failure to decide some state is published, in its turn, as an error that cancels the
+ * upstream subscription. An error of the upstream is published right away, dropping the outcomes
+ * not yet delivered.
+ *
+ * @since 0.10.0
+ */
+public final class DecisionProcessor implements Flow.Processor<State, DecisionResult> {
+    /**
+     * The decision tables to use.
+     */
+    private final DecisionTables tables;
+
+    /**
+     * The name of the table to decide.
+     */
+    private final String name;
+
+    /**
+     * The executor to decide the states on.
+     */
+    private final Executor pool;
+
+    /**
+     * The maximum number of states requested but not yet delivered downstream.
+     */
+    private final int parallelism;
+
+    /**
+     * The publisher shared by all the decisions, no events are tracked.
+     */
+    private final OutputPublisher<String> publisher;
+
+    /**
+     * The scratch sessions available for reuse.
+     */
+    private final Queue<ExecutionContext> sessions;
+
+    /**
+     * The outcomes not yet delivered, in the order of the incoming states.
+     */
+    private final Queue<CompletableFuture<DecisionResult>> pending;
+
+    /**
+     * The subscription to the upstream publisher.
+     */
+    private final AtomicReference<Flow.Subscription> upstream;
+
+    /**
+     * The only subscriber to the outcomes.
+     */
+    private final AtomicReference<Flow.Subscriber<? super DecisionResult>> downstream;
+
+    /**
+     * The number of outcomes requested by the subscriber and not yet delivered.
+     */
+    private final AtomicLong demand;
+
+    /**
+     * The number of states being decided.
+     */
+    private final AtomicInteger running;
+
+    /**
+     * The number of requests to deliver the outcomes, serializes the deliveries.
+     */
+    private final AtomicInteger deliveries;
+
+    /**
+     * The error of the upstream publisher, if any.
+     */
+    private final AtomicReference<Throwable> failure;
+
+    /**
+     * Whether the upstream publisher has no more states.
+     */
+    private final AtomicBoolean completed;
+
+    /**
+     * Whether the subscriber got the terminal signal or cancelled the subscription.
+     */
+    private final AtomicBoolean terminated;
+
+    /**
+     * Ctor.
+     *
+     * @param tables The decision tables to use.
+     * @param name The name of the table to decide.
+     * @param pool The executor to decide the states on.
+     * @param parallelism The maximum number of states to decide at once.
+     * @throws DecitaException If the parallelism is not positive.
+     */
+    public DecisionProcessor(
+        final DecisionTables tables,
+        final String name,
+        final Executor pool,
+        final int parallelism
+    ) throws DecitaException {
+        if (parallelism < 1) {
+            throw new DecitaException("%s - Parallelism must be positive".formatted(name));
+        }
+        this.tables = tables;
+        this.name = name;
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.publisher = new OutputPublisher<>();
+        this.sessions = new ConcurrentLinkedQueue<>();
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.upstream = new AtomicReference<>();
+        this.downstream = new AtomicReference<>();
+        this.demand = new AtomicLong();
+        this.running = new AtomicInteger();
+        this.deliveries = new AtomicInteger();
+        this.failure = new AtomicReference<>();
+        this.completed = new AtomicBoolean();
+        this.terminated = new AtomicBoolean();
+    }
+
+    /**
+     * Provides the number of states being decided right now.
+     *
+     * @return The number of states in flight.
+     */
+    public int inFlight() {
+        return this.running.get();
+    }
+
+    /**
+     * Provides the number of decided states waiting for the subscriber's demand or for the
+     * preceding states to be decided.
+     *
+     * @return The number of outcomes queued for delivery.
+     */
+    public int queueDepth() {
+        return (int) this.pending.stream().filter(CompletableFuture::isDone).count();
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super DecisionResult> subscriber) {
+        if (this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Outcomes());
+            this.deliver();
+        } else {
+            subscriber.onSubscribe(new Rejected());
+            subscriber.onError(
+                new DecitaException("%s - Processor is already subscribed".formatted(this.name))
+            );
+        }
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        if (this.upstream.compareAndSet(null, subscription)) {
+            subscription.request(this.parallelism);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onNext(final State state) {
+        this.running.incrementAndGet();
+        final CompletableFuture<DecisionResult> result = CompletableFuture.supplyAsync(
+            () -> new DecisionResult(state, this.decisionFor(state)),
+            this.pool
+        );
+        this.pending.add(result);
+        result.whenComplete(
+            (outcome, error) -> {
+                this.running.decrementAndGet();
+                this.deliver();
+            }
+        );
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+        this.failure.compareAndSet(null, error);
+        this.deliver();
+    }
+
+    @Override
+    public void onComplete() {
+        this.completed.set(true);
+        this.deliver();
+    }
+
+    /**
+     * Decides the table for a single state in a reused scratch session.
+     *
+     * @param state The state to decide the table for.
+     * @return The decision made for the state.
+     */
+    private Map<String, String> decisionFor(final State state) {
+        final ExecutionContext session = this.scratchSession();
+        try {
+            return new ComputationContext(state, this.tables, this.publisher, session)
+                .decisionFor(this.name);
+        } finally {
+            this.sessions.add(session);
+        }
+    }
+
+    /**
+     * Provides a cleared scratch session, reusing the released ones.
+     *
+     * @return The session to decide a state in.
+     */
+    private ExecutionContext scratchSession() {
+        final ExecutionContext reused = this.sessions.poll();
+        final ExecutionContext result;
+        if (reused == null) {
+            result = new ExecutionContext();
+        } else {
+            reused.clear();
+            result = reused;
+        }
+        return result;
+    }
+
+    /**
+     * Delivers all the outcomes that are decided and requested. Only a single thread delivers at a
+     * time, the requests arriving meanwhile are handled by it before it leaves. Once the
+     * processing is stopped, drops the outcomes of the states decided after that.
+     */
+    private void deliver() {
+        if (this.deliveries.getAndIncrement() == 0) {
+            int missed = 1;
+            while (missed != 0) {
+                if (this.terminated.get()) {
+                    this.pending.clear();
+                } else if (this.downstream.get() != null) {
+                    this.deliverReady(this.downstream.get());
+                }
+                missed = this.deliveries.addAndGet(-missed);
+            }
+        }
+    }
+
+    /**
+     * Delivers the outcomes in their order, while they are decided and requested, and the terminal
+     * signal, once there are no more outcomes.
+     *
+     * @param subscriber The subscriber to deliver the outcomes to.
+     */
+    private void deliverReady(final Flow.Subscriber<? super DecisionResult> subscriber) {
+        boolean more = true;
+        while (more) {
+            final CompletableFuture<DecisionResult> head = this.pending.peek();
+            if (this.failure.get() != null) {
+                this.terminate();
+                subscriber.onError(this.failure.get());
+                more = false;
+            } else if (head == null) {
+                if (this.completed.get() && this.pending.isEmpty()) {
+                    this.terminate();
+                    subscriber.onComplete();
+                }
+                more = false;
+            } else if (head.isCompletedExceptionally()) {
+                this.terminate();
+                subscriber.onError(DecisionProcessor.causeOf(head));
+                more = false;
+            } else if (head.isDone() && this.demand.get() > 0) {
+                this.pending.poll();
+                this.demand.decrementAndGet();
+                subscriber.onNext(head.join());
+                this.upstream.get().request(1);
+            } else {
+                more = false;
+            }
+        }
+    }
+
+    /**
+     * Stops the processing: cancels the upstream subscription and drops the pending outcomes.
+     */
+    private void terminate() {
+        if (this.terminated.compareAndSet(false, true)) {
+            final Flow.Subscription subscription = this.upstream.get();
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            this.pending.clear();
+        }
+    }
+
+    /**
+     * Extracts the cause of the failed decision.
+     *
+     * @param failed The failed decision.
+     * @return The exception thrown while deciding.
+     */
+    private static Throwable causeOf(final CompletableFuture<DecisionResult> failed) {
+        Throwable result;
+        try {
+            failed.join();
+            result = new DecitaException("Decision has not failed");
+        } catch (final CompletionException ex) {
+            result = ex.getCause();
+        }
+        return result;
+    }
+
+    /**
+     * I am the subscription to the outcomes of the {@link DecisionProcessor}.
+     *
+     * @since 0.10.0
+     */
+    private final class Outcomes implements Flow.Subscription {
+        @Override
+        public void request(final long count) {
+            if (count > 0) {
+                DecisionProcessor.this.demand.accumulateAndGet(
+                    count,
+                    (current, added) -> {
+                        final long sum = current + added;
+                        final long result;
+                        if (sum < 0) {
+                            result = Long.MAX_VALUE;
+                        } else {
+                            result = sum;
+                        }
+                        return result;
+                    }
+                );
+            } else {
+                DecisionProcessor.this.failure.compareAndSet(
+                    null,
+                    new IllegalArgumentException("The requested count must be positive")
+                );
+            }
+            DecisionProcessor.this.deliver();
+        }
+
+        @Override
+        public void cancel() {
+            DecisionProcessor.this.terminate();
+        }
+    }
+
+    /**
+     * I am the subscription of the rejected subscriber, there is nothing to request or cancel.
+     *
+     * @since 0.10.0
+     */
+    private static final class Rejected implements Flow.Subscription {
+        @Override
+        public void request(final long count) {
+            // Nothing will be delivered to the rejected subscriber.
+        }
+
+        @Override
+        public void cancel() {
+            // The rejected subscriber has nothing to cancel.
+        }
+    }
+}
@@ -26,16 +26,21 @@ package ru.ewc.decisions.api;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import ru.ewc.decisions.core.BaseLocators;
+import ru.ewc.decisions.core.DecisionGraph;
 import ru.ewc.decisions.core.DecisionTable;
 import ru.ewc.decisions.input.ContentsReader;
-import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
 
 /**
- * I am a set of decision tables.
+ * I am a set of decision tables. I wrap the immutable {@link DecisionGraph}, so a single instance
+ * of me can be safely shared by many {@link ComputationContext}s working in different threads.
+ * The way the tables are compiled and evaluated is up to my {@link DecisionEngine}.
  *
  * @since 0.6.0
  */
@@ -46,36 +51,190 @@ public final class DecisionTables extends BaseLocators {
      */
     private final ContentsReader contents;
 
-    private DecisionTables(final ContentsReader contents, final Map<String, Locator> locators) {
-        super(locators);
+    /**
+     * The engine compiling and evaluating the decision tables.
+     */
+    private final DecisionEngine engine;
+
+    /**
+     * Primary Ctor.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @param engine The engine compiling and evaluating the decision tables.
+     */
+    private DecisionTables(final ContentsReader contents, final DecisionEngine engine) {
+        super(engine.graph().locators());
         this.contents = contents;
+        this.engine = engine;
     }
 
     public static DecisionTables using(final ContentsReader contents) {
-        return new DecisionTables(
-            contents,
-            contents.readAll().stream().map(SourceLines::asDecisionTable)
-                .collect(Collectors.toMap(Locator::locatorName, Function.identity()))
-        );
+        return DecisionTables.using(contents, HitPolicy.UNIQUE);
+    }
+
+    /**
+     * Reads and compiles all the decision tables.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @param policy The {@link HitPolicy} for the tables that do not declare their own one.
+     * @return The compiled set of decision tables.
+     * @throws DecitaException If some table's rules do not conform to its {@link HitPolicy}.
+     */
+    public static DecisionTables using(final ContentsReader contents, final HitPolicy policy)
+        throws DecitaException {
+        return DecisionTables.using(contents, policy, EvaluationMode.LINEAR);
+    }
+
+    /**
+     * Reads and compiles all the decision tables.
+     *
+     * @param contents The reader providing the source data for the decision tables.
+     * @param policy The {@link HitPolicy} for the tables that do not declare their own one.
+     * @param mode The way the tables look for their satisfied rules.
+     * @return The compiled set of decision tables.
+     * @throws DecitaException If some table's rules do not conform to its {@link HitPolicy}.
+     */
+    public static DecisionTables using(
+        final ContentsReader contents,
+        final HitPolicy policy,
+        final EvaluationMode mode
+    ) throws DecitaException {
+        return new DecisionTables(contents, DecisionEngine.compiled(contents, policy, mode));
     }
 
     public Map<String, List<String>> commandsData() {
-        return this.decisionTables()
+        return this.engine.graph().decisionTables()
             .filter(DecisionTable::describesCommand)
             .collect(Collectors.toMap(Locator::locatorName, DecisionTable::commandArgs));
     }
 
     public List<String> tableNames() {
-        return this.decisionTables().map(Locator::locatorName).toList();
+        return this.engine.graph().decisionTables().map(Locator::locatorName).toList();
+    }
+
+    /**
+     * Provides the reports of the static analysis performed while loading the tables, i.e. whether
+     * each table's rules are proven to be mutually exclusive and its else rule to be reachable.
+     *
+     * @return The dictionary of the analysis reports by table names.
+     */
+    public Map<String, String> analysis() {
+        return this.engine.graph().decisionTables().collect(
+            Collectors.toMap(Locator::locatorName, table -> table.analysis().report())
+        );
+    }
+
+    /**
+     * Enables the parallel evaluation. When a decision is requested, the tables it depends on,
+     * that do not depend on each other, are evaluated concurrently on the specified executor, each
+     * in its own fork of the {@link ComputationContext}. Their results are then merged into the
+     * requesting context. The compiled tables are shared with this instance.
+     *
+     * @param pool The executor to evaluate the tables on, e.g. a {@code ForkJoinPool}.
+     * @return The set of decision tables evaluated in parallel.
+     */
+    public DecisionTables inParallelOn(final Executor pool) {
+        return new DecisionTables(this.contents, this.engine.inParallelOn(pool));
+    }
+
+    /**
+     * Decides the specified table for every state, in parallel chunks on the common
+     * {@code ForkJoinPool}. The states within a chunk share the same scratch session.
+     *
+     * @param name The name of the table to decide.
+     * @param states The states to decide the table for.
+     * @param consumer The receiver of every state's outcome, called concurrently and in no
+     *  particular order.
+     * @throws DecitaException If the table could not be found or computed for some state.
+     */
+    public void decideAll(
+        final String name,
+        final Iterable<State> states,
+        final BiConsumer<State, Map<String, String>> consumer
+    ) throws DecitaException {
+        this.decideAll(name, states.spliterator(), consumer);
+    }
+
+    /**
+     * Decides the specified table for every state, in parallel chunks on the common
+     * {@code ForkJoinPool}. The states are split into chunks by the spliterator itself, the states
+     * within a chunk share the same scratch session.
+     *
+     * @param name The name of the table to decide.
+     * @param states The states to decide the table for.
+     * @param consumer The receiver of every state's outcome, called concurrently and in no
+     *  particular order.
+     * @throws DecitaException If the table could not be found or computed for some state.
+     */
+    public void decideAll(
+        final String name,
+        final Spliterator<State> states,
+        final BiConsumer<State, Map<String, String>> consumer
+    ) throws DecitaException {
+        this.engine.decideAll(this, name, states, consumer);
+    }
+
+    /**
+     * Creates the processor deciding the specified table for the stream of states, see
+     * {@link DecisionProcessor}.
+     *
+     * @param name The name of the table to decide.
+     * @param pool The executor to decide the states on.
+     * @param parallelism The maximum number of states to decide at once.
+     * @return The processor publishing the outcomes in the order of the states.
+     * @throws DecitaException If the table could not be found or the parallelism is not positive.
+     */
+    public DecisionProcessor processorFor(
+        final String name,
+        final Executor pool,
+        final int parallelism
+    ) throws DecitaException {
+        return this.engine.processorFor(this, name, pool, parallelism);
+    }
+
+    /**
+     * Decides the specified table for many records at once. The records' values are supplied as
+     * numeric columns keyed by the coordinates the table's conditions compare with constants, e.g.
+     * {@code order::total}. Every distinct condition is evaluated over the whole column, so all
+     * the table's conditions must compare those coordinates with numbers, and the values are
+     * compared numerically even by the equality conditions. There is no state to read the
+     * outcomes from, so all the table's outcomes must be constants.
+     *
+     * @param name The name of the table to decide.
+     * @param columns The values of the records, keyed by their coordinates.
+     * @return The outcome of every record, in the order of the columns' values.
+     * @throws DecitaException If the table cannot be decided over the columns.
+     */
+    public List<Map<String, String>> decideColumns(
+        final String name,
+        final Map<String, double[]> columns
+    ) throws DecitaException {
+        return this.engine.decideColumns(this, name, columns);
+    }
+
+    /**
+     * Provides the state coordinates the specified table may read while it is decided, directly
+     * or via the chained tables, e.g. {@code order::total}. The dynamic coordinates are
+     * represented only by their placeholders known in advance, e.g. {@code cells::${request::move}}
+     * is represented by {@code request::move}.
+     *
+     * @param name The name of the table.
+     * @return The descriptions of the coordinates, in the order they are met in the tables.
+     */
+    public Set<String> readsOf(final String name) {
+        return this.engine.readsOf(name);
     }
 
     public DecisionTables reset() {
-        return DecisionTables.using(this.contents);
+        return new DecisionTables(this.contents, this.engine.recompiled(this.contents));
     }
 
-    private Stream<DecisionTable> decisionTables() {
-        return this.locators().values().stream()
-            .filter(DecisionTable.class::isInstance)
-            .map(DecisionTable.class::cast);
+    /**
+     * Provides the engine compiling and evaluating these tables.
+     *
+     * @return The engine of these tables.
+     */
+    DecisionEngine engine() {
+        return this.engine;
     }
 }
@@ -41,4 +41,13 @@ public class DecitaException extends RuntimeException {
     public DecitaException(final String message) {
         super(message);
     }
+
+    /**
+     * Ctor.
+     * @param message A String containing some information about an exceptional situation.
+     * @param cause The failure that caused this exceptional situation.
+     */
+    public DecitaException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
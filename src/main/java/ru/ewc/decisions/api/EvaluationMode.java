@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.core.Rule;
+
+/**
+ * I am the way a {@link DecisionTable} looks for its satisfied {@link Rule}s. All the modes lead to
+ * the same outcomes, but differ in the number of conditions checked during every evaluation and in
+ * the effort spent once the table is loaded.
+ *
+ * @since 0.10.0
+ */
+public enum EvaluationMode {
+    /**
+     * Every rule is checked one by one. This is the default mode.
+     */
+    LINEAR,
+
+    /**
+     * The rules are indexed by the values they expect, when possible. The index reads the compared
+     * value before any rule is checked, so with the {@link HitPolicy#FIRST} policy a table may
+     * fail to read a value the linear scan would never reach.
+     */
+    INDEXED,
+
+    /**
+     * The rules are compiled into a decision tree, so only the rules that are not excluded by the
+     * values of the tested coordinates are checked.
+     */
+    TREE,
+
+    /**
+     * Every distinct condition of the table is evaluated at most once, dropping all the rules
+     * requiring it at once if it is not satisfied.
+     */
+    BITSET,
+
+    /**
+     * Every rule is compiled into a single method handle chaining its conditions, with the
+     * constant conditions resolved and the constants of the comparisons typed once.
+     */
+    COMPILED
+}
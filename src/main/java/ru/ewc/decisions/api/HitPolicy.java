@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+import ru.ewc.decisions.core.DecisionTable;
+import ru.ewc.decisions.core.Rule;
+
+/**
+ * I am the hit policy of a {@link DecisionTable}, i.e. the way the table chooses its satisfied
+ * {@link Rule}. I can be declared for the whole {@link DecisionTables} set or for a single table
+ * via the {@code HIT} line of its source file, e.g. {@code HIT;first}.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public enum HitPolicy {
+    /**
+     * The first satisfied {@link Rule} wins, the rest of the rules are not checked at all.
+     */
+    FIRST,
+
+    /**
+     * Only one {@link Rule} can be satisfied, which is checked during every evaluation, unless it
+     * is proven once the table is loaded. This is the default policy.
+     */
+    UNIQUE,
+
+    /**
+     * Only one {@link Rule} can be satisfied, which is proven once the table is loaded. That's
+     * why the first satisfied rule is the only one and the rest of the rules are not checked.
+     */
+    UNIQUE_VERIFIED;
+
+    /**
+     * Creates the {@link HitPolicy} based on its name as specified in the source files, e.g.
+     * {@code first} or {@code unique-verified}.
+     *
+     * @param name The name of the hit policy.
+     * @return The corresponding {@link HitPolicy}.
+     * @throws DecitaException If there's no such hit policy.
+     */
+    public static HitPolicy from(final String name) throws DecitaException {
+        final String normalized = name.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        return Stream.of(HitPolicy.values())
+            .filter(policy -> policy.name().equals(normalized))
+            .findFirst()
+            .orElseThrow(() -> new DecitaException("Unknown hit policy '%s'".formatted(name)));
+    }
+}
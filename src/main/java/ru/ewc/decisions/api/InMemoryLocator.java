@@ -29,16 +29,17 @@ import java.util.Map;
 
 /**
  * I am a simple in-memory key-value storage. My main responsibility is to store and return the
- * specified data for testing purposes.
+ * specified data for testing purposes. My storage is copied on every write and replaced as a whole,
+ * so the concurrent readers see either all the values written at once or none of them.
  *
  * @since 0.2
  */
 @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
 public final class InMemoryLocator implements Locator {
     /**
-     * Simple key-value storage.
+     * Simple key-value storage, never changed after it is published.
      */
-    private final Map<String, Object> storage;
+    private volatile Map<String, Object> storage;
 
     /**
      * The name of the locator.
@@ -73,7 +74,14 @@ public final class InMemoryLocator implements Locator {
 
     @Override
     public void setFragmentValue(final String fragment, final String value) {
-        this.storage.put(fragment, value);
+        this.setFragmentValues(Map.of(fragment, value));
+    }
+
+    @Override
+    public synchronized void setFragmentValues(final Map<String, String> values) {
+        final Map<String, Object> updated = new HashMap<>(this.storage);
+        updated.putAll(values);
+        this.storage = updated;
     }
 
     @Override
@@ -87,6 +95,6 @@ public final class InMemoryLocator implements Locator {
     }
 
     public void reset() {
-        this.storage.clear();
+        this.storage = new HashMap<>();
     }
 }
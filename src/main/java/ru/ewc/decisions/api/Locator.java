@@ -58,6 +58,16 @@ public interface Locator {
      */
     void setFragmentValue(String fragment, String value);
 
+    /**
+     * Sets the values of several fragments at once, e.g. all the values written by a command.
+     * The locators that can be read concurrently should make all the values visible at once.
+     *
+     * @param values The values to set, keyed by the names of their fragments.
+     */
+    default void setFragmentValues(final Map<String, String> values) {
+        values.forEach(this::setFragmentValue);
+    }
+
     default Map<String, Object> state() {
         return Map.of();
     }
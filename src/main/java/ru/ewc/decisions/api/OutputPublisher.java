@@ -49,6 +49,15 @@ public final class OutputPublisher<T> {
         this.trackers.forEach(tracker -> tracker.add(data));
     }
 
+    /**
+     * Checks if there is at least one subscribed tracker, i.e. if the output data is needed at all.
+     *
+     * @return True if some tracker is subscribed to this publisher.
+     */
+    public boolean hasTrackers() {
+        return !this.trackers.isEmpty();
+    }
+
     /**
      * Creates a new tracker and subscribes it to the publisher.
      *
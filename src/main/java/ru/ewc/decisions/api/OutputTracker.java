@@ -74,7 +74,11 @@ public final class OutputTracker<T> {
         /**
          * The computation of the Condition.
          */
-        CN
+        CN,
+        /**
+         * The selection of the satisfied {@link Rule} of the {@link DecisionTable}.
+         */
+        SL
     }
 
 }
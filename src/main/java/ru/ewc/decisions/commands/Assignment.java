@@ -26,6 +26,7 @@ package ru.ewc.decisions.commands;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.core.Coordinate;
 
@@ -70,6 +71,19 @@ public final class Assignment {
         this.target.setValueInContext(this.value.valueIn(context), context);
     }
 
+    /**
+     * Provides the static {@link Coordinate}s this assignment reads, i.e. the value's ones and the
+     * placeholders of the target.
+     *
+     * @return The {@link Coordinate}s known to be read in advance.
+     */
+    public Stream<Coordinate> reads() {
+        return Stream.concat(
+            this.target.reads().filter(read -> !read.equals(this.target)),
+            this.value.reads()
+        );
+    }
+
     public List<String> commandArgs() {
         final List<String> result = new ArrayList<>(2);
         result.addAll(Assignment.unresolvedPartsFor(this.target.asString()));
@@ -24,12 +24,14 @@
 
 package ru.ewc.decisions.conditions;
 
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
-import org.hamcrest.Matcher;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.OutputTracker;
 import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.TypedValue;
 
 /**
  * I represent a simple {@link Condition} using two {@link Coordinate}s and some comparison
@@ -74,65 +76,85 @@ public abstract class BinaryCondition implements Condition {
 
     @Override
     public final boolean evaluate(final ComputationContext context) throws DecitaException {
-        this.right.locateIn(context);
-        this.left.locateIn(context);
-        final boolean satisfied = this.isSatisfied();
-        context.logComputation(
-            OutputTracker.EventType.CN,
-            "%s => %s".formatted(this.asString(), satisfied)
-        );
-        return satisfied;
+        return context.resultOf(this, () -> this.satisfiedIn(context));
     }
 
     @Override
     public final boolean isEvaluated() {
-        return this.right.isComputed() && this.left.isComputed();
+        return this.left.equals(this.right) || this.right.isComputed() && this.left.isComputed();
     }
 
     @Override
     public final boolean isSatisfied() {
-        return this.isEvaluated() && this.comparisonFor().matches(this.left);
+        return this.isEvaluated() && this.operator().test(this.left.typed(), this.right.typed());
     }
 
     @Override
-    public final String asString() {
-        return "%s %s %s".formatted(
-            this.lsource,
-            this.comparisonAsString(),
-            this.rsource
-        );
+    public final Optional<SubjectComparison> subject() {
+        final Optional<SubjectComparison> result;
+        if (this.comparesWithConstant()) {
+            result = Optional.of(
+                new ConstantComparison(
+                    this.left,
+                    this.rsource.split("::", 2)[1],
+                    this.right.typed(),
+                    this.operator()
+                )
+            );
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    @Override
+    public final Stream<Coordinate> operands() {
+        return Stream.of(this.left, this.right);
     }
 
     @Override
-    public final String result() {
+    public final String asString() {
         return "%s %s %s".formatted(
-            this.left.asString(),
-            this.comparisonAsString(),
-            this.right.asString()
+            this.lsource,
+            this.operator().asString(),
+            this.rsource
         );
     }
 
     /**
-     * Creates a {@link Matcher} that corresponds to the given operation and {@link Coordinate}.
+     * Provides the comparison operation of this {@link Condition}.
      *
-     * @return The {@link Matcher} to use in this {@link Condition}.
+     * @return The {@link Operator} to compare the parts with.
      */
-    protected abstract Matcher<Coordinate> comparisonFor();
+    protected abstract Operator operator();
 
     /**
-     * Returns the right part of this {@link Condition}.
+     * Checks if this {@link Condition} compares a static non-constant {@link Coordinate} with a
+     * constant one.
      *
-     * @return The {@link Coordinate} that is its right part.
+     * @return True, if the left part is a static non-constant and the right one is a constant.
      */
-    protected final Coordinate rightPart() {
-        return this.right;
+    private boolean comparesWithConstant() {
+        return this.right.isComputed() && this.right.isResolved()
+            && !this.left.isComputed() && this.left.isResolved();
     }
 
     /**
-     * Returns the String representation of this {@link Condition}.
+     * Computes this {@link Condition} in the specified context, without storing anything.
      *
-     * @return This {@link Condition} as a String.
+     * @param context The {@link ComputationContext} to evaluate {@link Condition} in.
+     * @return Whether the {@link Condition} stands true.
      */
-    protected abstract String comparisonAsString();
+    private boolean satisfiedIn(final ComputationContext context) {
+        final TypedValue value = this.right.typedIn(context);
+        final boolean satisfied = this.operator().test(this.left.typedIn(context), value);
+        context.logComputation(
+            OutputTracker.EventType.CN,
+            "%s => %s",
+            this.asString(),
+            satisfied
+        );
+        return satisfied;
+    }
 
 }
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.conditions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * I am the set of the compiled comparisons, i.e. {@link MethodHandle}s of type
+ * {@code (TypedValue)boolean} with the constants bound into them. The constants are typed once,
+ * when the comparison is compiled, and the compared values are typed by the caller, so the
+ * comparison itself never parses anything.
+ *
+ * @since 0.10.0
+ */
+final class Comparisons {
+    /**
+     * The handle of the textual equality.
+     */
+    private static final MethodHandle EQUALS;
+
+    /**
+     * The handle of the numeric "greater than" comparison.
+     */
+    private static final MethodHandle GREATER;
+
+    /**
+     * The handle of the numeric "less than" comparison.
+     */
+    private static final MethodHandle LESS;
+
+    /**
+     * The handle of the logical negation.
+     */
+    private static final MethodHandle NOT;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            EQUALS = lookup.findStatic(
+                Comparisons.class,
+                "equal",
+                MethodType.methodType(boolean.class, String.class, TypedValue.class)
+            );
+            GREATER = lookup.findStatic(
+                Comparisons.class,
+                "greater",
+                MethodType.methodType(boolean.class, TypedValue.class, TypedValue.class)
+            );
+            LESS = lookup.findStatic(
+                Comparisons.class,
+                "less",
+                MethodType.methodType(boolean.class, TypedValue.class, TypedValue.class)
+            );
+            NOT = lookup.findStatic(
+                Comparisons.class,
+                "not",
+                MethodType.methodType(boolean.class, boolean.class)
+            );
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * Ctor.
+     */
+    private Comparisons() {
+        // utility class
+    }
+
+    /**
+     * Compiles the equality check.
+     *
+     * @param constant The typed constant to compare with.
+     * @return The handle checking if the value equals the constant.
+     */
+    static MethodHandle equalTo(final TypedValue constant) {
+        return Comparisons.EQUALS.bindTo(constant.asString());
+    }
+
+    /**
+     * Compiles the "greater than" check.
+     *
+     * @param constant The typed constant to compare with.
+     * @return The handle checking if the value is greater than the constant.
+     */
+    static MethodHandle greaterThan(final TypedValue constant) {
+        return Comparisons.numeric(Comparisons.GREATER, constant);
+    }
+
+    /**
+     * Compiles the "less than" check.
+     *
+     * @param constant The typed constant to compare with.
+     * @return The handle checking if the value is less than the constant.
+     */
+    static MethodHandle lessThan(final TypedValue constant) {
+        return Comparisons.numeric(Comparisons.LESS, constant);
+    }
+
+    /**
+     * Compiles the negation of the check.
+     *
+     * @param comparison The check to negate.
+     * @return The handle negating the result of the check.
+     */
+    static MethodHandle not(final MethodHandle comparison) {
+        return MethodHandles.filterReturnValue(comparison, Comparisons.NOT);
+    }
+
+    /**
+     * Binds the typed constant to the comparison.
+     *
+     * @param comparison The numeric comparison.
+     * @param constant The typed constant to compare with.
+     * @return The handle comparing the value with the constant.
+     */
+    private static MethodHandle numeric(
+        final MethodHandle comparison,
+        final TypedValue constant
+    ) {
+        return MethodHandles.insertArguments(comparison, 0, constant);
+    }
+
+    /**
+     * Checks if the value is textually equal to the bound.
+     *
+     * @param bound The text of the bound.
+     * @param value The typed value to check.
+     * @return True, if the value has the same text as the bound.
+     */
+    private static boolean equal(final String bound, final TypedValue value) {
+        return value.asString().equals(bound);
+    }
+
+    /**
+     * Checks if the value is greater than the bound.
+     *
+     * @param bound The typed bound.
+     * @param value The typed value to check.
+     * @return True, if the value is greater than the bound.
+     * @throws IllegalArgumentException If either of the values is not a number.
+     */
+    private static boolean greater(final TypedValue bound, final TypedValue value) {
+        return value.compareTo(bound) > 0;
+    }
+
+    /**
+     * Checks if the value is less than the bound.
+     *
+     * @param bound The typed bound.
+     * @param value The typed value to check.
+     * @return True, if the value is less than the bound.
+     * @throws IllegalArgumentException If either of the values is not a number.
+     */
+    private static boolean less(final TypedValue bound, final TypedValue value) {
+        return value.compareTo(bound) < 0;
+    }
+
+    /**
+     * Negates the value.
+     *
+     * @param value The value to negate.
+     * @return The negated value.
+     */
+    private static boolean not(final boolean value) {
+        return !value;
+    }
+}
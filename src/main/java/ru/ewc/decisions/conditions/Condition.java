@@ -24,6 +24,8 @@
 
 package ru.ewc.decisions.conditions;
 
+import java.util.Optional;
+import java.util.stream.Stream;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.RuleFragment;
@@ -73,6 +75,8 @@ public interface Condition {
 
     /**
      * Evaluates all the parts of the {@link Condition} and provides the result of that evaluation.
+     * The result is stored in the provided {@link ComputationContext}, never in the
+     * {@link Condition} itself, so the same instance can be evaluated in many contexts.
      *
      * @param context The {@link ComputationContext} to evaluate {@link Condition} in.
      * @return Whether the {@link Condition} stands true.
@@ -81,20 +85,40 @@ public interface Condition {
     boolean evaluate(ComputationContext context) throws DecitaException;
 
     /**
-     * Checks if all the parts of the Condition are resolved and point to the constant values.
+     * Checks if all the parts of the Condition point to the constant values (or to the same
+     * value), so the Condition does not depend on any {@link ComputationContext}.
      *
-     * @return True, if both parts of the Condition are evaluated.
+     * @return True, if both parts of the Condition are constant or the same.
      */
     boolean isEvaluated();
 
     /**
-     * Checks if this {@link Condition} resolves to {@code true}.
+     * Checks if this constant {@link Condition} resolves to {@code true}.
      *
      * @return True, if it does.
      */
     boolean isSatisfied();
 
-    String asString();
+    /**
+     * Provides the comparison of a non-constant {@link Coordinate} with a constant this
+     * {@link Condition} makes, if any. Used by the static analysis of the rules and by the
+     * evaluation backends that reason about the {@link Condition}s without evaluating them.
+     *
+     * @return The comparison, or nothing if this {@link Condition} does not compare a single
+     *  non-constant {@link Coordinate} with a constant.
+     */
+    default Optional<SubjectComparison> subject() {
+        return Optional.empty();
+    }
 
-    String result();
+    /**
+     * Provides the {@link Coordinate}s this {@link Condition} compares.
+     *
+     * @return The compared {@link Coordinate}s.
+     */
+    default Stream<Coordinate> operands() {
+        return Stream.empty();
+    }
+
+    String asString();
 }
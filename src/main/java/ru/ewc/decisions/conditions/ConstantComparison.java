@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.conditions;
+
+import java.lang.invoke.MethodHandle;
+import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * I am the {@link SubjectComparison} made by a {@link BinaryCondition} with its {@link Operator}.
+ *
+ * @since 0.10.0
+ */
+final class ConstantComparison implements SubjectComparison {
+    /**
+     * The compared non-constant {@link Coordinate}.
+     */
+    private final Coordinate subject;
+
+    /**
+     * The constant the subject is compared with.
+     */
+    private final String bound;
+
+    /**
+     * The typed constant the subject is compared with.
+     */
+    private final TypedValue typed;
+
+    /**
+     * The comparison operation.
+     */
+    private final Operator operator;
+
+    /**
+     * Ctor.
+     *
+     * @param subject The compared non-constant {@link Coordinate}.
+     * @param bound The constant the subject is compared with.
+     * @param typed The typed constant the subject is compared with.
+     * @param operator The comparison operation.
+     */
+    ConstantComparison(
+        final Coordinate subject,
+        final String bound,
+        final TypedValue typed,
+        final Operator operator
+    ) {
+        this.subject = subject;
+        this.bound = bound;
+        this.typed = typed;
+        this.operator = operator;
+    }
+
+    @Override
+    public Coordinate coordinate() {
+        return this.subject;
+    }
+
+    @Override
+    public String boundary() {
+        return this.bound;
+    }
+
+    @Override
+    public boolean isEquality() {
+        return this.operator == Operator.EQUALS;
+    }
+
+    @Override
+    public boolean admits(final TypedValue value) {
+        return this.operator.test(value, this.typed);
+    }
+
+    @Override
+    public MethodHandle compiled() {
+        return this.operator.compiled(this.typed);
+    }
+
+    @Override
+    public void markSatisfied(final double[] column, final long[] marks) {
+        if (!this.typed.isNumber()) {
+            throw new IllegalArgumentException(
+                "%s does not compare with a number".formatted(this.subject.asString())
+            );
+        }
+        this.operator.mark(column, this.typed.asDouble(), marks);
+    }
+}
@@ -24,8 +24,6 @@
 
 package ru.ewc.decisions.conditions;
 
-import org.hamcrest.Matcher;
-import org.hamcrest.Matchers;
 import ru.ewc.decisions.core.Coordinate;
 
 /**
@@ -44,12 +42,7 @@ public class EqualsCondition extends BinaryCondition {
     }
 
     @Override
-    protected final String comparisonAsString() {
-        return "=";
-    }
-
-    @Override
-    protected final Matcher<Coordinate> comparisonFor() {
-        return Matchers.equalTo(this.rightPart());
+    protected final Operator operator() {
+        return Operator.EQUALS;
     }
 }
@@ -24,8 +24,6 @@
 
 package ru.ewc.decisions.conditions;
 
-import org.hamcrest.Matcher;
-import org.hamcrest.Matchers;
 import ru.ewc.decisions.core.Coordinate;
 
 /**
@@ -45,12 +43,7 @@ public class GreaterThanCondition extends BinaryCondition {
     }
 
     @Override
-    protected final String comparisonAsString() {
-        return ">";
-    }
-
-    @Override
-    protected final Matcher<Coordinate> comparisonFor() {
-        return Matchers.greaterThan(this.rightPart());
+    protected final Operator operator() {
+        return Operator.GREATER;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.conditions;
+
+import java.lang.invoke.MethodHandle;
+import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * I am the {@link SubjectComparison} made by a {@link NotCondition}, i.e. the inverse of its base
+ * {@link Condition}'s comparison.
+ *
+ * @since 0.10.0
+ */
+final class NegatedComparison implements SubjectComparison {
+    /**
+     * The comparison to invert.
+     */
+    private final SubjectComparison base;
+
+    /**
+     * Ctor.
+     *
+     * @param base The comparison to invert.
+     */
+    NegatedComparison(final SubjectComparison base) {
+        this.base = base;
+    }
+
+    @Override
+    public Coordinate coordinate() {
+        return this.base.coordinate();
+    }
+
+    @Override
+    public String boundary() {
+        return this.base.boundary();
+    }
+
+    @Override
+    public boolean isEquality() {
+        return false;
+    }
+
+    @Override
+    public boolean admits(final TypedValue value) {
+        return !this.base.admits(value);
+    }
+
+    @Override
+    public MethodHandle compiled() {
+        return Comparisons.not(this.base.compiled());
+    }
+
+    @Override
+    public void markSatisfied(final double[] column, final long[] marks) {
+        this.base.markSatisfied(column, marks);
+        for (int word = 0; word < marks.length; word += 1) {
+            marks[word] = ~marks[word];
+        }
+        if ((column.length & 63) != 0) {
+            marks[marks.length - 1] &= (1L << column.length) - 1;
+        }
+    }
+}
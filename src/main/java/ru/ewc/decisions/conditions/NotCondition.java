@@ -24,9 +24,12 @@
 
 package ru.ewc.decisions.conditions;
 
+import java.util.Optional;
+import java.util.stream.Stream;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.decisions.core.Coordinate;
 
 /**
  * I represent a negation, i.e. a {@link Condition} that is satisfied when its base
@@ -46,15 +49,7 @@ public final class NotCondition extends UnaryCondition {
 
     @Override
     public boolean evaluate(final ComputationContext context) throws DecitaException {
-        if (!this.baseCondition().isEvaluated()) {
-            this.baseCondition().evaluate(context);
-        }
-        final boolean satisfied = this.isSatisfied();
-        context.logComputation(
-            OutputTracker.EventType.CN,
-            "%s => %s".formatted(this.asString(), satisfied)
-        );
-        return satisfied;
+        return context.resultOf(this, () -> this.satisfiedIn(context));
     }
 
     @Override
@@ -67,13 +62,40 @@ public final class NotCondition extends UnaryCondition {
         return !this.baseCondition().isSatisfied();
     }
 
+    @Override
+    public Optional<SubjectComparison> subject() {
+        return this.baseCondition().subject().map(NegatedComparison::new);
+    }
+
+    @Override
+    public Stream<Coordinate> operands() {
+        return this.baseCondition().operands();
+    }
+
     @Override
     public String asString() {
         return "!(%s)".formatted(this.baseCondition().asString());
     }
 
-    @Override
-    public String result() {
-        return "%s".formatted(this.baseCondition().asString());
+    /**
+     * Computes this {@link Condition} in the specified context, without storing anything.
+     *
+     * @param context The {@link ComputationContext} to evaluate {@link Condition} in.
+     * @return Whether the {@link Condition} stands true.
+     */
+    private boolean satisfiedIn(final ComputationContext context) {
+        final boolean satisfied;
+        if (this.baseCondition().isEvaluated()) {
+            satisfied = this.isSatisfied();
+        } else {
+            satisfied = !this.baseCondition().evaluate(context);
+        }
+        context.logComputation(
+            OutputTracker.EventType.CN,
+            "%s => %s",
+            this.asString(),
+            satisfied
+        );
+        return satisfied;
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.conditions;
+
+import java.lang.invoke.MethodHandle;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * I am the comparison operation of a {@link BinaryCondition}. I compare the already typed
+ * operands, so checking a {@link Condition} neither parses the values nor allocates anything.
+ *
+ * @since 0.10.0
+ */
+public enum Operator {
+    /**
+     * The left operand is textually equal to the right one.
+     */
+    EQUALS("=") {
+        @Override
+        public boolean test(final TypedValue left, final TypedValue right) {
+            return left.asString().equals(right.asString());
+        }
+
+        @Override
+        public MethodHandle compiled(final TypedValue constant) {
+            return Comparisons.equalTo(constant);
+        }
+
+        @Override
+        public boolean holds(final double value, final double bound) {
+            return value == bound;
+        }
+    },
+
+    /**
+     * The left operand is numerically greater than the right one.
+     */
+    GREATER(">") {
+        @Override
+        public boolean test(final TypedValue left, final TypedValue right) {
+            return left.compareTo(right) > 0;
+        }
+
+        @Override
+        public MethodHandle compiled(final TypedValue constant) {
+            return Comparisons.greaterThan(constant);
+        }
+
+        @Override
+        public boolean holds(final double value, final double bound) {
+            return value > bound;
+        }
+    },
+
+    /**
+     * The left operand is numerically less than the right one.
+     */
+    LESS("<") {
+        @Override
+        public boolean test(final TypedValue left, final TypedValue right) {
+            return left.compareTo(right) < 0;
+        }
+
+        @Override
+        public MethodHandle compiled(final TypedValue constant) {
+            return Comparisons.lessThan(constant);
+        }
+
+        @Override
+        public boolean holds(final double value, final double bound) {
+            return value < bound;
+        }
+    };
+
+    /**
+     * The symbol of the operator, as it is written in the decision tables.
+     */
+    private final String symbol;
+
+    /**
+     * Ctor.
+     *
+     * @param symbol The symbol of the operator.
+     */
+    Operator(final String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Compares the operands.
+     *
+     * @param left The left operand.
+     * @param right The right operand.
+     * @return True, if the comparison holds.
+     * @throws IllegalArgumentException If the operator is numeric and an operand is not a number.
+     */
+    public abstract boolean test(TypedValue left, TypedValue right);
+
+    /**
+     * Compiles the comparison with the specified constant on the right.
+     *
+     * @param constant The typed right operand.
+     * @return The {@link MethodHandle} of type {@code (TypedValue)boolean}.
+     */
+    public abstract MethodHandle compiled(TypedValue constant);
+
+    /**
+     * Compares the numeric operands.
+     *
+     * @param value The left operand.
+     * @param bound The right operand.
+     * @return True, if the comparison holds.
+     */
+    public abstract boolean holds(double value, double bound);
+
+    /**
+     * Compares every value of the column with the bound, 64 values per bitset word, without any
+     * branches, so the loop is friendly to the JIT's vectorization.
+     *
+     * @param column The left operands, one per record.
+     * @param bound The right operand.
+     * @param marks The bitset to store the comparison result for every record in.
+     */
+    public final void mark(final double[] column, final double bound, final long[] marks) {
+        for (int word = 0; word < marks.length; word += 1) {
+            final int start = word << 6;
+            final int end = Math.min(start + 64, column.length);
+            long bits = 0;
+            for (int idx = start; idx < end; idx += 1) {
+                bits |= (this.holds(column[idx], bound) ? 1L : 0L) << idx;
+            }
+            marks[word] = bits;
+        }
+    }
+
+    /**
+     * Provides the symbol of this operator.
+     *
+     * @return The symbol of this operator.
+     */
+    public String asString() {
+        return this.symbol;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.conditions;
+
+import java.lang.invoke.MethodHandle;
+import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * I am the comparison of a non-constant {@link Coordinate}, the subject, with a constant, the
+ * boundary, as made by some {@link Condition}. I am provided by the {@link Condition}s that make
+ * such a comparison, see {@link Condition#subject()}. My main responsibility is to let the
+ * evaluation backends and the static analysis reason about the {@link Condition} without any
+ * {@link ru.ewc.decisions.api.ComputationContext}.
+ *
+ * @since 0.10.0
+ */
+public interface SubjectComparison {
+    /**
+     * Provides the compared non-constant {@link Coordinate}.
+     *
+     * @return The subject of the comparison.
+     */
+    Coordinate coordinate();
+
+    /**
+     * Provides the constant value the subject is compared with.
+     *
+     * @return The boundary of the comparison.
+     */
+    String boundary();
+
+    /**
+     * Tells if the comparison holds for the boundary only, i.e. if the subject is expected to be
+     * equal to the boundary.
+     *
+     * @return True, if this is an equality.
+     */
+    boolean isEquality();
+
+    /**
+     * Checks if the comparison holds when the subject has the specified value.
+     *
+     * @param value The hypothetical typed value of the subject.
+     * @return True, if the {@link Condition} is satisfied by that value.
+     * @throws IllegalArgumentException If the value cannot be compared with the boundary.
+     */
+    boolean admits(TypedValue value);
+
+    /**
+     * Compiles the comparison into the {@link MethodHandle} of type {@code (TypedValue)boolean}.
+     * The handle behaves exactly as {@link #admits(TypedValue)} does, but has the typed boundary
+     * bound into it.
+     *
+     * @return The compiled comparison.
+     */
+    MethodHandle compiled();
+
+    /**
+     * Marks the records whose subject's values satisfy the comparison. The values are numbers, so
+     * they are compared with the boundary numerically.
+     *
+     * @param column The values of the subject, one per record.
+     * @param marks The bitset to set the bits of the satisfied records in, initially empty.
+     * @throws IllegalArgumentException If the boundary is not a number.
+     */
+    void markSatisfied(double[] column, long[] marks);
+}
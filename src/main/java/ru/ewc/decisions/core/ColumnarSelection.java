@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.HitPolicy;
+import ru.ewc.decisions.conditions.Condition;
+import ru.ewc.decisions.conditions.SubjectComparison;
+
+/**
+ * I am the choice of the satisfied {@link Rule}s for many records at once. The records' values are
+ * supplied as numeric columns, keyed by the {@link Coordinate}s they belong to. Every distinct
+ * {@link Condition} is evaluated over the whole column into a bitset, the bitsets are combined per
+ * rule, and the rules claim their records in their order. The {@link HitPolicy} is consulted only
+ * for the records satisfying several rules.
+ *
+ * @since 0.10.0
+ */
+final class ColumnarSelection {
+    /**
+     * The table's rules, in their order.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The rule for the records that satisfy no other rule.
+     */
+    private final Rule elserule;
+
+    /**
+     * The name of the table.
+     */
+    private final String name;
+
+    /**
+     * The way the table chooses its satisfied rule.
+     */
+    private final HitPolicy policy;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's rules, in their order.
+     * @param elserule The rule for the records that satisfy no other rule.
+     * @param name The name of the table.
+     * @param policy The way the table chooses its satisfied rule.
+     */
+    ColumnarSelection(
+        final List<Rule> rules,
+        final Rule elserule,
+        final String name,
+        final HitPolicy policy
+    ) {
+        this.rules = rules;
+        this.elserule = elserule;
+        this.name = name;
+        this.policy = policy;
+    }
+
+    /**
+     * Chooses the satisfied rule for every record.
+     *
+     * @param columns The values of the subjects, keyed by the subjects' {@link Coordinate}s.
+     * @param size The number of records.
+     * @return The satisfied rule of every record.
+     * @throws DecitaException If some condition cannot be evaluated over the columns, or the
+     *  satisfied rules violate the {@link HitPolicy}.
+     */
+    Rule[] selectedOver(final Map<String, double[]> columns, final int size) {
+        final int words = (size + 63) >>> 6;
+        final Map<String, long[]> marks = new HashMap<>();
+        final List<long[]> masks = new ArrayList<>(this.rules.size());
+        final long[] taken = new long[words];
+        final long[] clashes = new long[words];
+        final Rule[] result = new Rule[size];
+        Arrays.fill(result, this.elserule);
+        for (final Rule rule : this.rules) {
+            final long[] mask = this.maskOf(rule, columns, size, marks);
+            masks.add(mask);
+            for (int word = 0; word < words; word += 1) {
+                clashes[word] |= mask[word] & taken[word];
+                long fresh = mask[word] & ~taken[word];
+                taken[word] |= fresh;
+                while (fresh != 0) {
+                    result[(word << 6) + Long.numberOfTrailingZeros(fresh)] = rule;
+                    fresh &= fresh - 1;
+                }
+            }
+        }
+        this.resolveClashes(clashes, masks, result);
+        return result;
+    }
+
+    /**
+     * Combines the bitsets of the rule's conditions.
+     *
+     * @param rule The rule to combine the conditions of.
+     * @param columns The values of the subjects, keyed by the subjects' {@link Coordinate}s.
+     * @param size The number of records.
+     * @param marks The bitsets of the already evaluated conditions, keyed by their descriptions.
+     * @return The bitset of the records satisfying the rule.
+     */
+    private long[] maskOf(
+        final Rule rule,
+        final Map<String, double[]> columns,
+        final int size,
+        final Map<String, long[]> marks
+    ) {
+        final long[] result = new long[(size + 63) >>> 6];
+        Arrays.fill(result, -1L);
+        if ((size & 63) != 0) {
+            result[result.length - 1] = (1L << size) - 1;
+        }
+        for (final Condition condition : rule.conditions()) {
+            if (condition.isEvaluated()) {
+                if (!condition.isSatisfied()) {
+                    Arrays.fill(result, 0L);
+                }
+            } else {
+                final long[] satisfied = marks.computeIfAbsent(
+                    condition.asString(),
+                    key -> this.marked(condition, columns, result.length)
+                );
+                for (int word = 0; word < result.length; word += 1) {
+                    result[word] &= satisfied[word];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the condition over its subject's column.
+     *
+     * @param condition The condition to evaluate.
+     * @param columns The values of the subjects, keyed by the subjects' {@link Coordinate}s.
+     * @param words The number of words in the bitset.
+     * @return The bitset of the records satisfying the condition.
+     * @throws DecitaException If the condition cannot be evaluated over the columns.
+     */
+    private long[] marked(
+        final Condition condition,
+        final Map<String, double[]> columns,
+        final int words
+    ) {
+        final SubjectComparison subject = condition.subject().orElseThrow(
+            () -> new DecitaException(
+                "%s - Condition %s does not compare with a constant"
+                    .formatted(this.name, condition.asString())
+            )
+        );
+        final double[] column = columns.get(subject.coordinate().asString());
+        if (column == null) {
+            throw new DecitaException(
+                "%s - No column for %s".formatted(this.name, subject.coordinate().asString())
+            );
+        }
+        if (!TypedValue.of(subject.boundary()).isNumber()) {
+            throw new DecitaException(
+                "%s - Condition %s does not compare with a number"
+                    .formatted(this.name, condition.asString())
+            );
+        }
+        final long[] result = new long[words];
+        subject.markSatisfied(column, result);
+        return result;
+    }
+
+    /**
+     * Chooses the rule, according to the {@link HitPolicy}, for every record satisfying several
+     * rules.
+     *
+     * @param clashes The bitset of the records satisfying several rules.
+     * @param masks The bitsets of the records satisfying every rule.
+     * @param result The satisfied rule of every record, to be corrected.
+     * @throws DecitaException If the satisfied rules violate the {@link HitPolicy}.
+     */
+    private void resolveClashes(
+        final long[] clashes,
+        final List<long[]> masks,
+        final Rule[] result
+    ) {
+        for (int word = 0; word < clashes.length; word += 1) {
+            long pending = clashes[word];
+            while (pending != 0) {
+                final int record = (word << 6) + Long.numberOfTrailingZeros(pending);
+                final int at = word;
+                final long bit = pending & -pending;
+                result[record] = HitPolicies.select(
+                    this.policy,
+                    IntStream.range(0, this.rules.size())
+                        .filter(rule -> (masks.get(rule)[at] & bit) != 0)
+                        .mapToObj(this.rules::get),
+                    this.name
+                ).orElse(this.elserule);
+                pending &= pending - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.decisions.conditions.Condition;
+import ru.ewc.decisions.conditions.UnaryCondition;
+
+/**
+ * I am the {@link RuleIndex} that compiles every rule into a single {@link MethodHandle} of type
+ * {@code (ComputationContext)boolean}, chaining its {@link Condition}s via {@code guardWithTest}.
+ * The constant {@link Condition}s are resolved once, when the rule is compiled, and the comparisons
+ * of the {@link Coordinate}s with constants have the typed constants bound into them. The rest of
+ * the {@link Condition}s are called as they are.
+ *
+ * <p>Every {@link Condition} is memoized in the {@link ComputationContext} and reported to its
+ * trackers exactly as in the other modes. The handles are kept per table, not as constants, so
+ * the JIT does not inline them into the caller.</p>
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class CompiledRules implements RuleIndex {
+    /**
+     * The type of the compiled rules and conditions.
+     */
+    private static final MethodType PREDICATE = MethodType.methodType(
+        boolean.class, ComputationContext.class
+    );
+
+    /**
+     * The handle of the {@link Coordinate#typedIn(ComputationContext)} method.
+     */
+    private static final MethodHandle TYPED_IN;
+
+    /**
+     * The handle of the {@link Condition#evaluate(ComputationContext)} method.
+     */
+    private static final MethodHandle EVALUATE;
+
+    /**
+     * The handle of the {@link #checked(Condition, MethodHandle, ComputationContext)} method.
+     */
+    private static final MethodHandle CHECKED;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            TYPED_IN = lookup.findVirtual(
+                Coordinate.class,
+                "typedIn",
+                MethodType.methodType(TypedValue.class, ComputationContext.class)
+            );
+            EVALUATE = lookup.findVirtual(Condition.class, "evaluate", CompiledRules.PREDICATE);
+            CHECKED = lookup.findStatic(
+                CompiledRules.class,
+                "checked",
+                CompiledRules.PREDICATE.insertParameterTypes(
+                    0, Condition.class, MethodHandle.class
+                )
+            );
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * The table's rules, in their order.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The compiled rules, in the same order.
+     */
+    private final List<MethodHandle> handles;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's rules, in their order.
+     * @param handles The compiled rules, in the same order.
+     */
+    private CompiledRules(final List<Rule> rules, final List<MethodHandle> handles) {
+        this.rules = rules;
+        this.handles = handles;
+    }
+
+    /**
+     * Compiles the specified rules.
+     *
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The compiled {@link RuleIndex}.
+     */
+    public static CompiledRules of(final List<Rule> rules) {
+        return new CompiledRules(
+            List.copyOf(rules),
+            rules.stream().map(CompiledRules::compiled).toList()
+        );
+    }
+
+    @Override
+    public Stream<Rule> satisfiedIn(final ComputationContext context) {
+        return IntStream.range(0, this.rules.size())
+            .filter(index -> this.satisfies(index, context))
+            .mapToObj(this.rules::get);
+    }
+
+    /**
+     * Invokes the compiled rule.
+     *
+     * @param index The index of the rule.
+     * @param context The context to check the rule in.
+     * @return True, if the rule is satisfied.
+     */
+    private boolean satisfies(final int index, final ComputationContext context) {
+        final boolean result = CompiledRules.invoked(this.handles.get(index), context);
+        context.logComputation(
+            OutputTracker.EventType.RL,
+            "%s => %s",
+            this.rules.get(index).asString(),
+            result
+        );
+        return result;
+    }
+
+    /**
+     * Compiles the rule into the conjunction of its {@link Condition}s. The constant ones are
+     * resolved right away, so {@code ~} cells cost nothing.
+     *
+     * @param rule The rule to compile.
+     * @return The {@link MethodHandle} of type {@code (ComputationContext)boolean}.
+     */
+    private static MethodHandle compiled(final Rule rule) {
+        final List<Condition> conditions = rule.conditions();
+        MethodHandle result = CompiledRules.constant(true);
+        for (int index = conditions.size() - 1; index >= 0; index -= 1) {
+            final Condition condition = conditions.get(index);
+            if (condition.isEvaluated()) {
+                if (!condition.isSatisfied()) {
+                    result = CompiledRules.constant(false);
+                }
+            } else {
+                result = MethodHandles.guardWithTest(
+                    CompiledRules.compiled(condition),
+                    result,
+                    CompiledRules.constant(false)
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the single {@link Condition}. The {@link UnaryCondition}s are evaluated as they
+     * are, so their base {@link Condition}s are memoized and reported as well.
+     *
+     * @param condition The {@link Condition} to compile.
+     * @return The {@link MethodHandle} of type {@code (ComputationContext)boolean}.
+     */
+    private static MethodHandle compiled(final Condition condition) {
+        return condition.subject()
+            .filter(subject -> !(condition instanceof UnaryCondition))
+            .map(
+                subject -> MethodHandles.insertArguments(
+                    CompiledRules.CHECKED,
+                    0,
+                    condition,
+                    MethodHandles.filterArguments(
+                        subject.compiled(),
+                        0,
+                        CompiledRules.TYPED_IN.bindTo(subject.coordinate())
+                    )
+                )
+            )
+            .orElseGet(() -> CompiledRules.EVALUATE.bindTo(condition));
+    }
+
+    /**
+     * Checks the compiled comparison of the {@link Condition}, memoizing and reporting its result
+     * in the context the same way as {@link Condition#evaluate(ComputationContext)} does.
+     *
+     * @param condition The compiled {@link Condition}.
+     * @param comparison The compiled comparison of type {@code (ComputationContext)boolean}.
+     * @param context The context to check the {@link Condition} in.
+     * @return True, if the {@link Condition} is satisfied.
+     */
+    private static boolean checked(
+        final Condition condition,
+        final MethodHandle comparison,
+        final ComputationContext context
+    ) {
+        return context.resultOf(
+            condition,
+            () -> {
+                final boolean satisfied = CompiledRules.invoked(comparison, context);
+                context.logComputation(
+                    OutputTracker.EventType.CN,
+                    "%s => %s",
+                    condition.asString(),
+                    satisfied
+                );
+                return satisfied;
+            }
+        );
+    }
+
+    /**
+     * Invokes the compiled predicate.
+     *
+     * @param predicate The predicate of type {@code (ComputationContext)boolean}.
+     * @param context The context to invoke the predicate in.
+     * @return The result of the predicate.
+     * @throws DecitaException If the predicate fails with a checked exception.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static boolean invoked(
+        final MethodHandle predicate,
+        final ComputationContext context
+    ) {
+        final boolean result;
+        try {
+            result = (boolean) predicate.invokeExact(context);
+        } catch (final RuntimeException | Error ex) {
+            throw ex;
+        } catch (final Throwable ex) {
+            throw new DecitaException(ex.getMessage(), ex);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the {@link MethodHandle} ignoring the context and returning the constant.
+     *
+     * @param value The constant to return.
+     * @return The {@link MethodHandle} of type {@code (ComputationContext)boolean}.
+     */
+    private static MethodHandle constant(final boolean value) {
+        return MethodHandles.dropArguments(
+            MethodHandles.constant(boolean.class, value),
+            0,
+            ComputationContext.class
+        );
+    }
+}
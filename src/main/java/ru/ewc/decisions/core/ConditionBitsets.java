@@ -0,0 +1,280 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.decisions.conditions.Condition;
+
+/**
+ * I am the {@link RuleIndex} that evaluates every distinct {@link Condition} of the table at most
+ * once. Each distinct {@link Condition} knows the bitset of the rules requiring it, so once it
+ * turns out to be false, all those rules are dropped from the candidates at once. The candidates
+ * are scanned in their original order with the {@code nextSetBit}-like search, so the evaluation
+ * allocates nothing per rule.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class ConditionBitsets implements RuleIndex {
+    /**
+     * The table's rules, in their order.
+     */
+    private final Rule[] rules;
+
+    /**
+     * The distinct {@link Condition}s of the table.
+     */
+    private final Condition[] conditions;
+
+    /**
+     * The indices of the distinct {@link Condition}s required by every rule.
+     */
+    private final int[][] required;
+
+    /**
+     * The bitsets of the rules requiring every distinct {@link Condition}.
+     */
+    private final long[][] masks;
+
+    /**
+     * The bitset of the rules that can be satisfied at all.
+     */
+    private final long[] viable;
+
+    /**
+     * Ctor.
+     *
+     * @param rules The table's rules, in their order.
+     * @param conditions The distinct {@link Condition}s of the table.
+     * @param required The indices of the distinct {@link Condition}s required by every rule.
+     * @param masks The bitsets of the rules requiring every distinct {@link Condition}.
+     * @param viable The bitset of the rules that can be satisfied at all.
+     */
+    private ConditionBitsets(
+        final Rule[] rules,
+        final Condition[] conditions,
+        final int[][] required,
+        final long[][] masks,
+        final long[] viable
+    ) {
+        this.rules = rules;
+        this.conditions = conditions;
+        this.required = required;
+        this.masks = masks;
+        this.viable = viable;
+    }
+
+    /**
+     * Compiles the specified rules, deduplicating their {@link Condition}s. The {@link Condition}s
+     * that are always satisfied (like {@code ~}) are skipped, while the rules having a
+     * {@link Condition} that is never satisfied are never checked.
+     *
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The compiled {@link RuleIndex}.
+     */
+    public static ConditionBitsets of(final List<Rule> rules) {
+        final int words = ConditionBitsets.words(rules.size());
+        final Map<String, Integer> indices = new LinkedHashMap<>();
+        final List<Condition> distinct = new ArrayList<>();
+        final List<long[]> masks = new ArrayList<>();
+        final int[][] required = new int[rules.size()][];
+        final long[] viable = new long[words];
+        for (int rule = 0; rule < rules.size(); rule += 1) {
+            final List<Integer> own = new ArrayList<>();
+            boolean satisfiable = true;
+            for (final Condition condition : rules.get(rule).conditions()) {
+                if (condition.isEvaluated()) {
+                    satisfiable = satisfiable && condition.isSatisfied();
+                } else {
+                    final int index = indices.computeIfAbsent(
+                        condition.asString(),
+                        key -> {
+                            distinct.add(condition);
+                            masks.add(new long[words]);
+                            return distinct.size() - 1;
+                        }
+                    );
+                    masks.get(index)[rule >>> 6] |= 1L << rule;
+                    own.add(index);
+                }
+            }
+            required[rule] = own.stream().mapToInt(Integer::intValue).distinct().toArray();
+            if (satisfiable) {
+                viable[rule >>> 6] |= 1L << rule;
+            }
+        }
+        return new ConditionBitsets(
+            rules.toArray(new Rule[0]),
+            distinct.toArray(new Condition[0]),
+            required,
+            masks.toArray(new long[0][]),
+            viable
+        );
+    }
+
+    @Override
+    public Stream<Rule> satisfiedIn(final ComputationContext context) {
+        return StreamSupport.stream(new Scan(context), false);
+    }
+
+    /**
+     * Tells the number of the distinct {@link Condition}s of the table.
+     *
+     * @return The number of the distinct {@link Condition}s.
+     */
+    public int distinctConditions() {
+        return this.conditions.length;
+    }
+
+    /**
+     * Calculates the number of {@code long} words needed to store the specified number of bits.
+     *
+     * @param bits The number of bits.
+     * @return The number of words.
+     */
+    private static int words(final int bits) {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Finds the next set bit of the bitset.
+     *
+     * @param bits The bitset.
+     * @param from The index to start the search from, inclusive.
+     * @return The index of the next set bit, or -1 if there are no more set bits.
+     */
+    private static int nextSetBit(final long[] bits, final int from) {
+        int result = -1;
+        int word = from >>> 6;
+        if (word < bits.length) {
+            long current = bits[word] & -1L << from;
+            while (current == 0 && word + 1 < bits.length) {
+                word += 1;
+                current = bits[word];
+            }
+            if (current != 0) {
+                result = word * Long.SIZE + Long.numberOfTrailingZeros(current);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * I am the single scan of the candidate rules in the specific {@link ComputationContext}.
+     *
+     * @since 0.10.0
+     */
+    private final class Scan extends Spliterators.AbstractSpliterator<Rule> {
+        /**
+         * The context to evaluate the {@link Condition}s in.
+         */
+        private final ComputationContext context;
+
+        /**
+         * The bitset of the rules that are not dropped yet.
+         */
+        private final long[] candidates;
+
+        /**
+         * The bitset of the distinct {@link Condition}s that are already known to be satisfied.
+         */
+        private final long[] passed;
+
+        /**
+         * The index of the next rule to check.
+         */
+        private int next;
+
+        /**
+         * Ctor.
+         *
+         * @param context The context to evaluate the {@link Condition}s in.
+         */
+        Scan(final ComputationContext context) {
+            super(ConditionBitsets.this.rules.length, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.context = context;
+            this.candidates = ConditionBitsets.this.viable.clone();
+            this.passed = new long[ConditionBitsets.words(ConditionBitsets.this.conditions.length)];
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Rule> action) {
+            boolean found = false;
+            int rule = ConditionBitsets.nextSetBit(this.candidates, this.next);
+            while (!found && rule >= 0) {
+                found = this.satisfies(rule);
+                this.context.logComputation(
+                    OutputTracker.EventType.RL,
+                    "%s => %s",
+                    ConditionBitsets.this.rules[rule].asString(),
+                    found
+                );
+                if (found) {
+                    action.accept(ConditionBitsets.this.rules[rule]);
+                }
+                this.next = rule + 1;
+                rule = ConditionBitsets.nextSetBit(this.candidates, this.next);
+            }
+            return found;
+        }
+
+        /**
+         * Evaluates the rule's {@link Condition}s that are not known to be satisfied yet. The
+         * first unsatisfied {@link Condition} drops all the rules requiring it.
+         *
+         * @param rule The index of the rule.
+         * @return True, if all the rule's {@link Condition}s are satisfied.
+         */
+        private boolean satisfies(final int rule) {
+            boolean result = true;
+            for (final int condition : ConditionBitsets.this.required[rule]) {
+                final long bit = 1L << condition;
+                if ((this.passed[condition >>> 6] & bit) == 0) {
+                    if (ConditionBitsets.this.conditions[condition].evaluate(this.context)) {
+                        this.passed[condition >>> 6] |= bit;
+                    } else {
+                        final long[] mask = ConditionBitsets.this.masks[condition];
+                        for (int word = 0; word < mask.length; word += 1) {
+                            this.candidates[word] &= ~mask[word];
+                        }
+                        result = false;
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
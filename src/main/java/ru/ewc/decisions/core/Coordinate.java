@@ -24,8 +24,7 @@
 
 package ru.ewc.decisions.core;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
@@ -37,7 +36,8 @@ import ru.ewc.decisions.conditions.Condition;
  * I am a simple data structure describing the position of the required value. My responsibility is
  * to provide everything that is needed to retrieve that value. The position of every value is
  * described by the {@link Locator}'s ID and the {@code String} value's ID, so it looks like a
- * 2D-coordinate.
+ * 2D-coordinate. I am immutable, so the same instance can be shared by any number of
+ * {@link Condition}s and {@link ComputationContext}s.
  *
  * @since 0.1
  */
@@ -56,18 +56,35 @@ public final class Coordinate implements Comparable<Coordinate> {
 
     /**
      * A regular expression for a number.
+     *
+     * @deprecated The values are typed once by {@link TypedValue}, the regular expression is no
+     *  longer used to recognize the numbers and is kept for compatibility only.
      */
+    @Deprecated
     public static final String NUMBER_REGEXP = "-?\\d+(\\.\\d+)?";
 
     /**
      * String identifier of the concrete {@link Locator} responsible for retrieving the value.
      */
-    private String locator;
+    private final String locator;
 
     /**
      * String identifier of the requested state property's value.
      */
-    private String fragment;
+    private final String fragment;
+
+    /**
+     * The typed value of the fragment, parsed only once, which is the value itself for the
+     * constant {@link Coordinate}s.
+     */
+    @EqualsAndHashCode.Exclude
+    private final TypedValue value;
+
+    /**
+     * The precompiled address of this {@link Coordinate}, if it has any placeholders.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Template template;
 
     /**
      * Ctor.
@@ -76,8 +93,27 @@ public final class Coordinate implements Comparable<Coordinate> {
      * @param fragment The value's identifier.
      */
     private Coordinate(final String locator, final String fragment) {
+        this(locator, fragment, TypedValue.of(fragment), Template.of(locator, fragment));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param locator The {@link Locator} identifier.
+     * @param fragment The value's identifier.
+     * @param value The typed value of the fragment.
+     * @param template The precompiled address.
+     */
+    private Coordinate(
+        final String locator,
+        final String fragment,
+        final TypedValue value,
+        final Template template
+    ) {
         this.locator = locator;
         this.fragment = fragment;
+        this.value = value;
+        this.template = template;
     }
 
     /**
@@ -89,53 +125,71 @@ public final class Coordinate implements Comparable<Coordinate> {
      * @return A concrete {@link Coordinate} based on given string representation.
      */
     public static Coordinate from(final String coordinate) {
+        final String[] address = Coordinate.addressOf(coordinate);
+        return new Coordinate(address[0], address[1]);
+    }
+
+    /**
+     * Locates the required value in the provided {@link ComputationContext}. This instance stays
+     * untouched, so the same {@link Coordinate} could be safely used in many {@link Condition}s
+     * and across many {@link ComputationContext}s.
+     *
+     * @param context Provided {@link ComputationContext}.
+     * @return A constant value {@link Coordinate}.
+     * @throws DecitaException If the specified {@link Locator} is missing.
+     */
+    public Coordinate locateIn(final ComputationContext context) throws DecitaException {
+        final Coordinate resolved = this.resolvedIn(context);
         final Coordinate result;
-        if (coordinate.contains("::")) {
-            final String[] split = coordinate.split("::");
+        if (resolved.isComputed()) {
+            result = resolved;
+        } else {
+            final String computed = resolved.computedIn(context);
             result = new Coordinate(
-                split[0],
-                Arrays.stream(split).skip(1).collect(Collectors.joining("::"))
+                Locator.CONSTANT_VALUES,
+                computed,
+                context.parsed(computed, TypedValue::of),
+                Template.RESOLVED
             );
-        } else {
-            result = new Coordinate(Locator.CONSTANT_VALUES, coordinate);
         }
         return result;
     }
 
+    public String valueIn(final ComputationContext context) throws DecitaException {
+        return this.resolvedIn(context).computedIn(context);
+    }
+
     /**
-     * Locates the required value in the provided {@link ComputationContext}. Always return the same
-     * object with updated fields (not a new instance) because there could be many references to
-     * this instance, i.e. the same {@link Coordinate} could be used in many {@link Condition}s.
+     * Locates the required value in the provided {@link ComputationContext} and provides it as a
+     * {@link TypedValue}, parsed at most once per context.
      *
      * @param context Provided {@link ComputationContext}.
-     * @return A constant value {@link Coordinate}.
+     * @return The typed value this {@link Coordinate} points to.
      * @throws DecitaException If the specified {@link Locator} is missing.
      */
-    public Coordinate locateIn(final ComputationContext context) throws DecitaException {
-        if (!this.isResolved()) {
-            this.resolveIn(context);
-        }
-        if (!this.isComputed()) {
-            this.turnToConstantWith(this.valueIn(context));
+    public TypedValue typedIn(final ComputationContext context) throws DecitaException {
+        final TypedValue result;
+        if (this.isComputed() && this.isResolved()) {
+            result = this.value;
+        } else {
+            result = context.parsed(this.valueIn(context), TypedValue::of);
         }
-        return this;
+        return result;
     }
 
-    public String valueIn(final ComputationContext context) throws DecitaException {
-        this.resolveIn(context);
-        final String result = context.valueFor(this.locator, this.fragment);
-        context.logComputation(
-            OutputTracker.EventType.ST,
-            "%s => %s".formatted(this.asString(), result)
-        );
-        return result;
+    /**
+     * Provides the fragment of this {@link Coordinate} as a {@link TypedValue}, parsed once, when
+     * this {@link Coordinate} was created.
+     *
+     * @return The typed fragment of this {@link Coordinate}.
+     */
+    public TypedValue typed() {
+        return this.value;
     }
 
     public ComputationContext setValueInContext(final String val, final ComputationContext target) {
-        if (!this.isResolved()) {
-            this.resolveIn(target);
-        }
-        return target.setValueFor(this.locator, this.fragment, val);
+        final Coordinate resolved = this.resolvedIn(target);
+        return target.setValueFor(resolved.locator, resolved.fragment, val);
     }
 
     /**
@@ -153,7 +207,7 @@ public final class Coordinate implements Comparable<Coordinate> {
      * @return True if the {@link Coordinate} is resolved.
      */
     public Boolean isResolved() {
-        return !this.locator.contains("${") && !this.fragment.contains("${");
+        return this.template == Template.RESOLVED;
     }
 
     /**
@@ -161,22 +215,58 @@ public final class Coordinate implements Comparable<Coordinate> {
      * replaces all placeholders with the actual values.
      *
      * @param context The {@link ComputationContext} to resolve the {@link Coordinate} in.
+     * @return This instance if it has no placeholders, or the new resolved {@link Coordinate}.
      */
-    public void resolveIn(final ComputationContext context) {
-        final String description = "%s::%s".formatted(this.locator, this.fragment);
-        String result = description;
-        while (result.contains("${")) {
-            final String coord = Coordinate.extractInnerMostCoordinate(result);
-            final Coordinate coordinate = Coordinate.from(coord);
-            result = result.replace("${%s}".formatted(coord), coordinate.valueIn(context));
-        }
-        if (!result.equals(description)) {
-            context.logComputation(
-                OutputTracker.EventType.DN,
-                "%s => %s".formatted(description, result)
+    public Coordinate resolvedIn(final ComputationContext context) {
+        final Coordinate result;
+        if (this.isResolved()) {
+            result = this;
+        } else {
+            final String[] address = Coordinate.addressOf(this.substitutedIn(context));
+            result = new Coordinate(
+                address[0],
+                address[1],
+                context.parsed(address[1], TypedValue::of),
+                Template.RESOLVED
             );
         }
-        this.updateWith(result);
+        return result;
+    }
+
+    /**
+     * Provides the static {@link Coordinate}s that are read when this one is located, i.e. this
+     * {@link Coordinate} itself, if it is static, or the static placeholders of the dynamic one.
+     *
+     * @return The {@link Coordinate}s known to be read in advance.
+     */
+    public Stream<Coordinate> reads() {
+        final Stream<Coordinate> result;
+        if (!this.isResolved()) {
+            result = this.template.reads();
+        } else if (this.isComputed()) {
+            result = Stream.empty();
+        } else {
+            result = Stream.of(this);
+        }
+        return result;
+    }
+
+    /**
+     * Provides the identifier of the {@link Locator} this {@link Coordinate} points to.
+     *
+     * @return The {@link Locator}'s identifier.
+     */
+    public String locatorName() {
+        return this.locator;
+    }
+
+    /**
+     * Provides the identifier of the value within its {@link Locator}.
+     *
+     * @return The value's identifier.
+     */
+    public String fragmentName() {
+        return this.fragment;
     }
 
     /**
@@ -190,51 +280,64 @@ public final class Coordinate implements Comparable<Coordinate> {
 
     @Override
     public int compareTo(final Coordinate other) {
-        final int result;
-        if (this.isNumber() && other.isNumber()) {
-            result = Double.compare(
-                Double.parseDouble(this.fragment),
-                Double.parseDouble(other.fragment)
-            );
-        } else {
-            throw new IllegalArgumentException("Cannot compare strings");
-        }
-        return result;
+        return this.value.compareTo(other.value);
     }
 
     /**
-     * Tests if the fragment is a number.
+     * Reads the value of this (already resolved) {@link Coordinate} from the provided
+     * {@link ComputationContext}.
      *
-     * @return True, if the fragment is a number.
+     * @param context The {@link ComputationContext} to read the value from.
+     * @return The value this {@link Coordinate} points to.
      */
-    private boolean isNumber() {
-        return this.fragment.matches(Coordinate.NUMBER_REGEXP);
+    private String computedIn(final ComputationContext context) {
+        final String result = context.valueFor(this.locator, this.fragment);
+        context.logComputation(
+            OutputTracker.EventType.ST,
+            "%s::%s => %s",
+            this.locator,
+            this.fragment,
+            result
+        );
+        return result;
     }
 
     /**
-     * Turns the {@link Coordinate} into a constant {@link Coordinate} with provided value.
+     * Replaces all the placeholders in this {@link Coordinate}'s description with their actual
+     * values.
      *
-     * @param constant The constant value to set.
+     * @param context The {@link ComputationContext} to get the placeholders' values from.
+     * @return The description of the resolved {@link Coordinate}.
      */
-    private void turnToConstantWith(final String constant) {
-        this.locator = Locator.CONSTANT_VALUES;
-        this.fragment = constant;
+    private String substitutedIn(final ComputationContext context) {
+        final String result = this.template.renderedIn(context);
+        context.logComputation(
+            OutputTracker.EventType.DN,
+            "%s => %s",
+            this.asString(),
+            result
+        );
+        return result;
     }
 
-    private void updateWith(final String coordinate) {
-        if (coordinate.contains("::")) {
-            final String[] split = coordinate.split("::");
-            this.locator = split[0];
-            this.fragment = Arrays.stream(split).skip(1).collect(Collectors.joining("::"));
+    /**
+     * Splits the string representation of a {@link Coordinate} into its {@link Locator}'s and its
+     * value's identifiers.
+     *
+     * @param coordinate String representation of a coordinate.
+     * @return The pair of the {@link Locator}'s identifier and the value's identifier.
+     */
+    private static String[] addressOf(final String coordinate) {
+        final String[] result;
+        final int separator = coordinate.indexOf("::");
+        if (separator >= 0) {
+            result = new String[] {
+                coordinate.substring(0, separator),
+                coordinate.substring(separator + 2)
+            };
         } else {
-            this.locator = Locator.CONSTANT_VALUES;
-            this.fragment = coordinate;
+            result = new String[] {Locator.CONSTANT_VALUES, coordinate};
         }
-    }
-
-    private static String extractInnerMostCoordinate(final String description) {
-        final int start = description.lastIndexOf("${");
-        final int end = description.indexOf('}', start);
-        return description.substring(start + 2, end);
+        return result;
     }
 }
@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.EvaluationMode;
+import ru.ewc.decisions.api.HitPolicy;
+import ru.ewc.decisions.api.Locator;
+import ru.ewc.decisions.input.SourceLines;
+
+/**
+ * I am the immutable snapshot of all the compiled {@link DecisionTable}s. I am built only once and
+ * then shared by all the {@link ComputationContext}s, even the concurrent ones. All the evaluation
+ * results are stored in the session's {@link ExecutionContext}, never in my nodes.
+ *
+ * @since 0.10.0
+ */
+public final class DecisionGraph {
+    /**
+     * The compiled tables, keyed by their names.
+     */
+    private final Map<String, Locator> tables;
+
+    /**
+     * The tables every table depends on that do not depend on each other, keyed by the name of
+     * the dependent table.
+     */
+    private final Map<String, List<DecisionTable>> independent;
+
+    /**
+     * The state {@link Coordinate}s every table may read, directly or via other tables, keyed by
+     * the table's name.
+     */
+    private final Map<String, Set<Coordinate>> reads;
+
+    /**
+     * Ctor.
+     *
+     * @param sources The source lines of all the decision tables to compile.
+     * @param policy The {@link HitPolicy} for the tables that do not declare their own one.
+     * @param mode The way the tables look for their satisfied rules.
+     */
+    public DecisionGraph(
+        final List<SourceLines> sources,
+        final HitPolicy policy,
+        final EvaluationMode mode
+    ) {
+        this(
+            sources.stream()
+                .map(lines -> lines.asDecisionTable(policy, mode))
+                .collect(Collectors.toUnmodifiableMap(Locator::locatorName, Function.identity()))
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param tables The compiled tables, keyed by their names.
+     */
+    private DecisionGraph(final Map<String, Locator> tables) {
+        this(
+            tables,
+            DecisionGraph.independentDependencies(tables),
+            DecisionGraph.stateReads(tables)
+        );
+    }
+
+    /**
+     * Primary Ctor.
+     *
+     * @param tables The compiled tables, keyed by their names.
+     * @param independent The independent dependencies of every table, keyed by its name.
+     * @param reads The state {@link Coordinate}s every table may read, keyed by its name.
+     */
+    private DecisionGraph(
+        final Map<String, Locator> tables,
+        final Map<String, List<DecisionTable>> independent,
+        final Map<String, Set<Coordinate>> reads
+    ) {
+        this.tables = tables;
+        this.independent = independent;
+        this.reads = reads;
+    }
+
+    /**
+     * Provides the read-only view of all the compiled tables as {@link Locator}s.
+     *
+     * @return The unmodifiable {@link Map} of compiled tables, keyed by their names.
+     */
+    public Map<String, Locator> locators() {
+        return this.tables;
+    }
+
+    /**
+     * Provides all the compiled {@link DecisionTable}s.
+     *
+     * @return The {@link Stream} of compiled {@link DecisionTable}s.
+     */
+    public Stream<DecisionTable> decisionTables() {
+        return this.tables.values().stream()
+            .filter(DecisionTable.class::isInstance)
+            .map(DecisionTable.class::cast);
+    }
+
+    /**
+     * Provides the tables the specified table depends on directly, skipping the ones that are
+     * also reachable through the others. These tables can be safely evaluated in parallel.
+     *
+     * @param name The name of the dependent table.
+     * @return The independent tables, in the order of the dependent table's conditions.
+     */
+    public List<DecisionTable> independentDependenciesOf(final String name) {
+        return this.independent.getOrDefault(name, List.of());
+    }
+
+    /**
+     * Provides the state {@link Coordinate}s the specified table may read, directly or via the
+     * other tables. The dynamic {@link Coordinate}s are represented by their static placeholders
+     * only, since their addresses are not known in advance.
+     *
+     * @param name The name of the table.
+     * @return The state {@link Coordinate}s, in the order they are met in the tables.
+     */
+    public Set<Coordinate> readsOf(final String name) {
+        return this.reads.getOrDefault(name, Set.of());
+    }
+
+    /**
+     * Finds the state {@link Coordinate}s every table may read.
+     *
+     * @param tables The compiled tables, keyed by their names.
+     * @return The state {@link Coordinate}s of every table, keyed by its name.
+     */
+    private static Map<String, Set<Coordinate>> stateReads(final Map<String, Locator> tables) {
+        final Map<String, Set<Coordinate>> result = new HashMap<>();
+        for (final String name : tables.keySet()) {
+            final Set<Coordinate> found = new LinkedHashSet<>();
+            final Set<String> visited = new HashSet<>();
+            final Deque<String> pending = new ArrayDeque<>(List.of(name));
+            while (!pending.isEmpty()) {
+                final String current = pending.pop();
+                if (visited.add(current) && tables.get(current) instanceof DecisionTable) {
+                    ((DecisionTable) tables.get(current)).reads().forEach(
+                        coordinate -> {
+                            if (tables.containsKey(coordinate.locatorName())) {
+                                pending.push(coordinate.locatorName());
+                            } else {
+                                found.add(coordinate);
+                            }
+                        }
+                    );
+                }
+            }
+            result.put(name, Collections.unmodifiableSet(found));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Finds the independent dependencies of every table.
+     *
+     * @param tables The compiled tables, keyed by their names.
+     * @return The independent dependencies of every table, keyed by its name.
+     */
+    private static Map<String, List<DecisionTable>> independentDependencies(
+        final Map<String, Locator> tables
+    ) {
+        final Map<String, Set<String>> direct = new HashMap<>();
+        tables.forEach(
+            (name, locator) -> {
+                if (locator instanceof DecisionTable) {
+                    final Set<String> names = new LinkedHashSet<>(
+                        ((DecisionTable) locator).dependencies()
+                    );
+                    names.retainAll(tables.keySet());
+                    names.remove(name);
+                    direct.put(name, names);
+                }
+            }
+        );
+        final Map<String, List<DecisionTable>> result = new HashMap<>();
+        direct.forEach(
+            (name, names) -> result.put(
+                name,
+                names.stream()
+                    .filter(
+                        dependency -> names.stream()
+                            .filter(other -> !other.equals(dependency))
+                            .noneMatch(
+                                other -> DecisionGraph.reachable(direct, other).contains(dependency)
+                            )
+                    )
+                    .map(tables::get)
+                    .filter(DecisionTable.class::isInstance)
+                    .map(DecisionTable.class::cast)
+                    .toList()
+            )
+        );
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Finds all the tables the specified table depends on, directly or transitively.
+     *
+     * @param direct The direct dependencies of every table, keyed by its name.
+     * @param start The name of the dependent table.
+     * @return The names of all the tables it depends on.
+     */
+    private static Set<String> reachable(
+        final Map<String, Set<String>> direct,
+        final String start
+    ) {
+        final Set<String> result = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>(direct.getOrDefault(start, Set.of()));
+        while (!pending.isEmpty()) {
+            final String name = pending.pop();
+            if (result.add(name)) {
+                pending.addAll(direct.getOrDefault(name, Set.of()));
+            }
+        }
+        return result;
+    }
+}
@@ -24,10 +24,14 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
 import ru.ewc.decisions.api.RuleFragment;
 import ru.ewc.decisions.api.RuleFragments;
 import ru.ewc.decisions.commands.Assignment;
@@ -35,24 +39,56 @@ import ru.ewc.decisions.conditions.Condition;
 import ru.ewc.decisions.input.SourceLines;
 
 /**
- * I am a dedicated collection of {@link RuleFragment}s. My main responsibility is to provide
- * convenient methods to filter and search the fragments.
+ * I am a dedicated collection of {@link RuleFragment}s. My main responsibility is to compile the
+ * fragments into the {@link Condition}s, {@link Assignment}s and outcome {@link Coordinate}s only
+ * once, so that they could be reused in every {@link ComputationContext}.
  *
  * @since 0.9.0
  */
 @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
 public final class DecisionRuleFragments {
     /**
-     * The delegate {@link RuleFragments} to work with.
+     * The compiled {@link Condition}s of the rule.
      */
-    private final RuleFragments fragments;
+    private final List<Condition> conditions;
+
+    /**
+     * The compiled {@link Assignment}s of the rule.
+     */
+    private final List<Assignment> assignments;
+
+    /**
+     * The compiled outcomes of the rule, i.e. the outcome names and their {@link Coordinate}s.
+     */
+    private final Map<String, Coordinate> outcomes;
 
     public DecisionRuleFragments(final List<RuleFragment> fragments) {
         this(new RuleFragments(fragments));
     }
 
     public DecisionRuleFragments(final RuleFragments fragments) {
-        this.fragments = fragments;
+        this(
+            DecisionRuleFragments.conditionsFrom(fragments),
+            DecisionRuleFragments.assignmentsFrom(fragments),
+            DecisionRuleFragments.outcomesFrom(fragments)
+        );
+    }
+
+    /**
+     * Primary Ctor.
+     *
+     * @param conditions The compiled {@link Condition}s of the rule.
+     * @param assignments The compiled {@link Assignment}s of the rule.
+     * @param outcomes The compiled outcomes of the rule.
+     */
+    private DecisionRuleFragments(
+        final List<Condition> conditions,
+        final List<Assignment> assignments,
+        final Map<String, Coordinate> outcomes
+    ) {
+        this.conditions = conditions;
+        this.assignments = assignments;
+        this.outcomes = outcomes;
     }
 
     public static DecisionRuleFragments from(final SourceLines lines, final int column) {
@@ -60,30 +96,78 @@ public final class DecisionRuleFragments {
     }
 
     public List<Assignment> assignments() {
-        return
-            this.fragments.getFragments().stream()
-                .filter(rf -> rf.nonEmptyOfType("ASG"))
-                .map(rf -> new Assignment(rf.left(), rf.right()))
-                .toList();
+        return this.assignments;
     }
 
     public List<Condition> conditions() {
+        return this.conditions;
+    }
+
+    /**
+     * Provides the names of the rule's outcomes.
+     *
+     * @return The unmodifiable set of the outcome names.
+     */
+    public Set<String> outcomeNames() {
+        return this.outcomes.keySet();
+    }
+
+    /**
+     * Provides the {@link Coordinate}s of the rule's outcomes.
+     *
+     * @return The unmodifiable collection of the outcomes' {@link Coordinate}s.
+     */
+    public Collection<Coordinate> outcomeCoordinates() {
+        return this.outcomes.values();
+    }
+
+    /**
+     * Computes the single outcome of the rule, leaving the rest of them untouched.
+     *
+     * @param name The name of the outcome.
+     * @param context The {@link ComputationContext} to compute the outcome in.
+     * @return The value of the outcome, or {@code undefined} if there's no such outcome.
+     */
+    public String outcome(final String name, final ComputationContext context) {
+        final Coordinate coordinate = this.outcomes.get(name);
+        final String result;
+        if (coordinate == null) {
+            result = "undefined";
+        } else {
+            result = coordinate.valueIn(context);
+        }
+        return result;
+    }
+
+    private static List<Condition> conditionsFrom(final RuleFragments fragments) {
         return
-            this.fragments.getFragments().stream()
+            fragments.getFragments().stream()
                 .filter(rf -> rf.nonEmptyOfType("CND"))
                 .map(Condition::from)
                 .toList();
     }
 
-    public Map<String, String> outcomes(final ComputationContext context) {
+    private static List<Assignment> assignmentsFrom(final RuleFragments fragments) {
         return
-            this.fragments.getFragments().stream()
-                .filter(rf -> rf.nonEmptyOfType("OUT"))
-                .collect(
-                    Collectors.toMap(
-                        RuleFragment::left,
-                        rf -> Coordinate.from(rf.right()).valueIn(context)
-                    )
-                );
+            fragments.getFragments().stream()
+                .filter(rf -> rf.nonEmptyOfType("ASG"))
+                .map(rf -> new Assignment(rf.left(), rf.right()))
+                .toList();
+    }
+
+    private static Map<String, Coordinate> outcomesFrom(final RuleFragments fragments) {
+        final Map<String, Coordinate> result = new LinkedHashMap<>();
+        fragments.getFragments().stream()
+            .filter(rf -> rf.nonEmptyOfType("OUT"))
+            .forEach(
+                rf -> {
+                    if (result.putIfAbsent(rf.left(), Coordinate.from(rf.right())) != null) {
+                        throw new DecitaException(
+                            "%s - Duplicate outcome '%s'".formatted(fragments.header(), rf.left())
+                        );
+                    }
+                }
+            );
+        return Collections.unmodifiableMap(result);
     }
 }
@@ -24,18 +24,25 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import ru.ewc.decisions.api.ComputableLocator;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.HitPolicy;
 import ru.ewc.decisions.api.OutputTracker;
 
 /**
  * I am a collection of {@link Rule}s used to compute any kind of decision. My main responsibility
- * is to orchestrate the computation and choose the only satisfied {@link Rule}.
+ * is to orchestrate the computation and choose the satisfied {@link Rule} according to my
+ * {@link HitPolicy}.
  *
  * @since 0.1
  */
@@ -56,6 +63,21 @@ public final class DecisionTable implements ComputableLocator {
      */
     private final String name;
 
+    /**
+     * The way this table chooses its satisfied {@link Rule}.
+     */
+    private final HitPolicy policy;
+
+    /**
+     * The results of the static analysis of the table's {@link Rule}s.
+     */
+    private final RulesAnalysis analysis;
+
+    /**
+     * The compiled form of the table's {@link Rule}s used to find the satisfied ones.
+     */
+    private final RuleIndex index;
+
     /**
      * Ctor.
      *
@@ -75,9 +97,54 @@ public final class DecisionTable implements ComputableLocator {
      * @param name The name of the table.
      */
     public DecisionTable(final Iterable<Rule> rules, final Rule elserule, final String name) {
+        this(rules, elserule, name, HitPolicy.UNIQUE, RulesAnalysis.NOT_PERFORMED);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param rules A collection of {@link Rule}s for this table.
+     * @param elserule The special {@link Rule} that gets satisfied only if no other {@link Rule} is
+     *  satisfied.
+     * @param name The name of the table.
+     * @param policy The way this table chooses its satisfied {@link Rule}.
+     * @param analysis The results of the static analysis of the table's {@link Rule}s.
+     */
+    public DecisionTable(
+        final Iterable<Rule> rules,
+        final Rule elserule,
+        final String name,
+        final HitPolicy policy,
+        final RulesAnalysis analysis
+    ) {
+        this(rules, elserule, name, policy, analysis, new LinearScan(rules));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param rules A collection of {@link Rule}s for this table.
+     * @param elserule The special {@link Rule} that gets satisfied only if no other {@link Rule} is
+     *  satisfied.
+     * @param name The name of the table.
+     * @param policy The way this table chooses its satisfied {@link Rule}.
+     * @param analysis The results of the static analysis of the table's {@link Rule}s.
+     * @param index The compiled form of the table's {@link Rule}s used to find the satisfied ones.
+     */
+    public DecisionTable(
+        final Iterable<Rule> rules,
+        final Rule elserule,
+        final String name,
+        final HitPolicy policy,
+        final RulesAnalysis analysis,
+        final RuleIndex index
+    ) {
         this.rules = rules;
         this.elserule = elserule;
         this.name = name;
+        this.policy = policy;
+        this.analysis = analysis;
+        this.index = index;
     }
 
     @Override
@@ -88,7 +155,7 @@ public final class DecisionTable implements ComputableLocator {
     @Override
     public String fragmentBy(final String fragment, final ComputationContext context)
         throws DecitaException {
-        return this.outcome(context).getOrDefault(fragment, "undefined");
+        return this.selectedIn(context).field(fragment);
     }
 
     @Override
@@ -96,12 +163,23 @@ public final class DecisionTable implements ComputableLocator {
         // no-op method, nothing changes.
     }
 
+    /**
+     * Computes all of this table's outcomes. The satisfied {@link Rule} is chosen at most once per
+     * {@link ComputationContext}, so the chained tables referenced by many {@link Rule}s are not
+     * recomputed, until the state is changed via that context.
+     *
+     * @param context The specific {@link ComputationContext} to make a decision in.
+     * @return The unmodifiable dictionary of the table's outcomes.
+     * @throws DecitaException If any of the {@link Rule}s cannot be checked.
+     */
     @Override
     public Map<String, String> outcome(final ComputationContext context) throws DecitaException {
-        final Map<String, String> outcome = this.determineSatisfiedRuleIn(context).outcome(context);
+        final Map<String, String> outcome = this.selectedIn(context).all();
         context.logComputation(
             OutputTracker.EventType.TB,
-            "%s => %s".formatted(this.name, outcome)
+            "%s => %s",
+            this.name,
+            outcome
         );
         return outcome;
     }
@@ -119,18 +197,113 @@ public final class DecisionTable implements ComputableLocator {
         return this.ruleStream().anyMatch(Rule::describesCommand);
     }
 
+    /**
+     * Provides the results of the static analysis performed when this table was loaded.
+     *
+     * @return The {@link RulesAnalysis} of this table's {@link Rule}s.
+     */
+    public RulesAnalysis analysis() {
+        return this.analysis;
+    }
+
+    /**
+     * Provides the names of the {@link ru.ewc.decisions.api.Locator}s this table's conditions
+     * compare with constants, i.e. the tables and the state this table depends on.
+     *
+     * @return The names of the {@link ru.ewc.decisions.api.Locator}s, in their original order.
+     */
+    public Set<String> dependencies() {
+        return this.ruleStream()
+            .flatMap(rule -> rule.comparisonsBySubject().keySet().stream())
+            .map(Coordinate::locatorName)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Provides the static {@link Coordinate}s this table may read, including the other tables'
+     * outcomes.
+     *
+     * @return The {@link Coordinate}s known to be read in advance.
+     */
+    public Stream<Coordinate> reads() {
+        return Stream.concat(this.ruleStream(), Stream.of(this.elserule)).flatMap(Rule::reads);
+    }
+
+    /**
+     * Chooses the satisfied {@link Rule} in the specified {@link ComputationContext}, leaving its
+     * outcomes to be computed on demand.
+     *
+     * @param context The specific {@link ComputationContext} to make a decision in.
+     */
+    public void evaluateIn(final ComputationContext context) {
+        this.selectedIn(context);
+    }
+
+    /**
+     * Decides this table for many records at once, see {@link ColumnarSelection}. The outcome of
+     * every satisfied rule is computed only once, in the specified context, so all the outcomes
+     * must be constants.
+     *
+     * @param columns The numeric values of the records, keyed by their {@link Coordinate}s.
+     * @param size The number of records.
+     * @param context The {@link ComputationContext} to compute the outcomes in.
+     * @return The outcome of every record.
+     * @throws DecitaException If some outcome is not a constant, some condition cannot be
+     *  evaluated over the columns, or the satisfied rules violate the {@link HitPolicy}.
+     */
+    public List<Map<String, String>> outcomesOver(
+        final Map<String, double[]> columns,
+        final int size,
+        final ComputationContext context
+    ) throws DecitaException {
+        if (!Stream.concat(this.ruleStream(), Stream.of(this.elserule))
+            .allMatch(Rule::hasConstantOutcomes)) {
+            throw new DecitaException(
+                "%s - Outcomes read the state, which the columns do not provide"
+                    .formatted(this.name)
+            );
+        }
+        final Map<Rule, Map<String, String>> outcomes = new IdentityHashMap<>();
+        return Arrays.stream(
+            new ColumnarSelection(this.ruleStream().toList(), this.elserule, this.name, this.policy)
+                .selectedOver(columns, size)
+        ).map(
+            rule -> outcomes.computeIfAbsent(
+                rule, key -> new TableOutcome(this, key, context).all()
+            )
+        ).toList();
+    }
+
     public List<String> commandArgs() {
         return this.ruleStream().map(Rule::commandArgs).flatMap(List::stream).toList();
     }
 
+    /**
+     * Chooses the satisfied {@link Rule} once per {@link ComputationContext}. Its outcomes are
+     * computed only when requested.
+     *
+     * @param context The specific {@link ComputationContext} to make a decision in.
+     * @return The lazy outcome of this table.
+     */
+    private TableOutcome selectedIn(final ComputationContext context) {
+        return context.resultOf(this, () -> this.selectedOutcome(context));
+    }
+
+    private TableOutcome selectedOutcome(final ComputationContext context) {
+        final Rule rule = this.determineSatisfiedRuleIn(context);
+        context.logComputation(
+            OutputTracker.EventType.SL,
+            "%s => %s",
+            this.name,
+            rule.asString()
+        );
+        return new TableOutcome(this, rule, context);
+    }
+
     private Rule determineSatisfiedRuleIn(final ComputationContext context) {
-        final List<Rule> satisfied = this.ruleStream()
-            .filter(rule -> rule.check(context))
-            .toList();
-        if (satisfied.size() > 1) {
-            throw new DecitaException("%s - Multiple rules are satisfied".formatted(this.name));
-        }
-        return satisfied.stream().findFirst().orElse(this.elserule);
+        return HitPolicies
+            .select(this.policy, this.index.satisfiedIn(context), this.name)
+            .orElse(this.elserule);
     }
 
     private Stream<Rule> ruleStream() {
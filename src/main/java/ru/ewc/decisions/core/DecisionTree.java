@@ -0,0 +1,391 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.conditions.Condition;
+import ru.ewc.decisions.conditions.SubjectComparison;
+
+/**
+ * I am the {@link RuleIndex} that compiles the table's rule matrix into a decision tree. Every node
+ * of the tree locates a single {@link Coordinate} and chooses the branch by its value, so the
+ * evaluation touches roughly as many {@link Coordinate}s as the tree is deep. The leaves hold the
+ * candidate rules, that are checked completely and in their original order, which keeps the
+ * outcomes identical to the ones of the {@link LinearScan}.
+ *
+ * <p>The tree is built from the {@link Condition}s comparing a {@link Coordinate} with a constant.
+ * The {@link Coordinate} that leaves the fewest candidates on average is tested first, while the
+ * rules not depending on it (e.g. via the {@code ~} cells) stay in all its branches.</p>
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class DecisionTree implements RuleIndex {
+    /**
+     * The maximum number of the tree nodes, the candidates are not split any further beyond it.
+     */
+    private static final int MAX_NODES = 4096;
+
+    /**
+     * The root node of the tree.
+     */
+    private final Node root;
+
+    /**
+     * Ctor.
+     *
+     * @param root The root node of the tree.
+     */
+    private DecisionTree(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the specified rules into a decision tree.
+     *
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The compiled decision tree.
+     */
+    public static DecisionTree of(final List<Rule> rules) {
+        return new DecisionTree(new Builder(rules).nodeFor(rules, new HashSet<>()));
+    }
+
+    @Override
+    public Stream<Rule> satisfiedIn(final ComputationContext context) {
+        return this.root.candidatesIn(context).stream().filter(rule -> rule.check(context));
+    }
+
+    /**
+     * Tells the depth of the tree, i.e. the maximum number of {@link Coordinate}s located during
+     * the single evaluation.
+     *
+     * @return The depth of the tree.
+     */
+    public int depth() {
+        return this.root.depth();
+    }
+
+    /**
+     * I am a single node of the decision tree.
+     *
+     * @since 0.10.0
+     */
+    private interface Node {
+        /**
+         * Finds the candidate rules for the specified context.
+         *
+         * @param context The {@link ComputationContext} to locate the {@link Coordinate}s in.
+         * @return The candidate rules, in their original order.
+         */
+        List<Rule> candidatesIn(ComputationContext context);
+
+        /**
+         * Tells the depth of the subtree starting at this node.
+         *
+         * @return The number of the split nodes on the longest path from this node.
+         */
+        int depth();
+    }
+
+    /**
+     * I am the leaf node holding the candidate rules.
+     *
+     * @since 0.10.0
+     */
+    private static final class Leaf implements Node {
+        /**
+         * The candidate rules, in their original order.
+         */
+        private final List<Rule> candidates;
+
+        /**
+         * Ctor.
+         *
+         * @param candidates The candidate rules, in their original order.
+         */
+        Leaf(final List<Rule> candidates) {
+            this.candidates = candidates;
+        }
+
+        @Override
+        public List<Rule> candidatesIn(final ComputationContext context) {
+            return this.candidates;
+        }
+
+        @Override
+        public int depth() {
+            return 0;
+        }
+    }
+
+    /**
+     * I am the node that chooses the branch by the value of a single {@link Coordinate}.
+     *
+     * @since 0.10.0
+     */
+    private static final class Split implements Node {
+        /**
+         * The {@link Coordinate} to locate.
+         */
+        private final Coordinate subject;
+
+        /**
+         * The regions of the subject's value space.
+         */
+        private final ValueRegions regions;
+
+        /**
+         * The branches, one per each region.
+         */
+        private final List<Node> branches;
+
+        /**
+         * Ctor.
+         *
+         * @param subject The {@link Coordinate} to locate.
+         * @param regions The regions of the subject's value space.
+         * @param branches The branches, one per each region.
+         */
+        Split(final Coordinate subject, final ValueRegions regions, final List<Node> branches) {
+            this.subject = subject;
+            this.regions = regions;
+            this.branches = branches;
+        }
+
+        @Override
+        public List<Rule> candidatesIn(final ComputationContext context) {
+            return this.branches
+                .get(this.regions.regionOf(this.subject.typedIn(context)))
+                .candidatesIn(context);
+        }
+
+        @Override
+        public int depth() {
+            return 1 + this.branches.stream().mapToInt(Node::depth).max().orElse(0);
+        }
+    }
+
+    /**
+     * I am the builder of the decision tree, holding the compilation state.
+     *
+     * @since 0.10.0
+     */
+    private static final class Builder {
+        /**
+         * The analyzable {@link SubjectComparison}s of every rule, grouped by their subjects.
+         */
+        private final Map<Rule, Map<Coordinate, List<SubjectComparison>>> conditions;
+
+        /**
+         * The regions of every subject's value space.
+         */
+        private final Map<Coordinate, ValueRegions> regions;
+
+        /**
+         * The number of the nodes built so far.
+         */
+        private int nodes;
+
+        /**
+         * Ctor.
+         *
+         * @param rules The table's rules.
+         */
+        Builder(final List<Rule> rules) {
+            this(Builder.groupedConditions(rules));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param conditions The analyzable comparisons of every rule, grouped by subjects.
+         */
+        private Builder(final Map<Rule, Map<Coordinate, List<SubjectComparison>>> conditions) {
+            this(conditions, Builder.regionsOf(conditions));
+        }
+
+        /**
+         * Primary ctor.
+         *
+         * @param conditions The analyzable comparisons of every rule, grouped by subjects.
+         * @param regions The regions of every subject's value space.
+         */
+        private Builder(
+            final Map<Rule, Map<Coordinate, List<SubjectComparison>>> conditions,
+            final Map<Coordinate, ValueRegions> regions
+        ) {
+            this.conditions = conditions;
+            this.regions = regions;
+        }
+
+        /**
+         * Builds the node for the specified candidates.
+         *
+         * @param candidates The candidate rules, in their original order.
+         * @param tested The {@link Coordinate}s already tested on the path to this node.
+         * @return The node of the decision tree.
+         */
+        Node nodeFor(final List<Rule> candidates, final Set<Coordinate> tested) {
+            this.nodes += 1;
+            Coordinate best = null;
+            List<List<Rule>> split = List.of();
+            int score = Integer.MAX_VALUE;
+            if (candidates.size() > 1 && this.nodes < DecisionTree.MAX_NODES) {
+                for (final Coordinate subject : Builder.untested(this.regions.keySet(), tested)) {
+                    final List<List<Rule>> branches = this.branchesFor(candidates, subject);
+                    final int total = branches.stream().mapToInt(List::size).sum();
+                    final boolean prunes = branches.stream()
+                        .anyMatch(branch -> branch.size() < candidates.size());
+                    if (prunes && total < score) {
+                        best = subject;
+                        split = branches;
+                        score = total;
+                    }
+                }
+            }
+            final Node result;
+            if (best == null) {
+                result = new Leaf(candidates);
+            } else {
+                final Set<Coordinate> path = new HashSet<>(tested);
+                path.add(best);
+                final List<Node> children = new ArrayList<>(split.size());
+                for (final List<Rule> branch : split) {
+                    children.add(this.nodeFor(branch, path));
+                }
+                result = new Split(best, this.regions.get(best), List.copyOf(children));
+            }
+            return result;
+        }
+
+        /**
+         * Collects the subjects not tested on the path to the current node yet.
+         *
+         * @param subjects All the subjects.
+         * @param tested The subjects already tested.
+         * @return The untested subjects, in their original order.
+         */
+        private static List<Coordinate> untested(
+            final Set<Coordinate> subjects,
+            final Set<Coordinate> tested
+        ) {
+            return subjects.stream().filter(subject -> !tested.contains(subject)).toList();
+        }
+
+        /**
+         * Groups the analyzable {@link SubjectComparison}s of every rule by their subjects.
+         *
+         * @param rules The table's rules.
+         * @return The analyzable {@link SubjectComparison}s of every rule, grouped by subjects.
+         */
+        private static Map<Rule, Map<Coordinate, List<SubjectComparison>>> groupedConditions(
+            final List<Rule> rules
+        ) {
+            final Map<Rule, Map<Coordinate, List<SubjectComparison>>> result =
+                new LinkedHashMap<>();
+            for (final Rule rule : rules) {
+                result.put(rule, rule.comparisonsBySubject());
+            }
+            return result;
+        }
+
+        /**
+         * Splits the value space of every subject into regions by its constants.
+         *
+         * @param conditions The analyzable comparisons of every rule, grouped by subjects.
+         * @return The regions of every subject's value space.
+         */
+        private static Map<Coordinate, ValueRegions> regionsOf(
+            final Map<Rule, Map<Coordinate, List<SubjectComparison>>> conditions
+        ) {
+            final Map<Coordinate, Set<String>> boundaries = new LinkedHashMap<>();
+            conditions.values().forEach(
+                grouped -> grouped.forEach(
+                    (subject, list) -> list.forEach(
+                        condition -> boundaries
+                            .computeIfAbsent(subject, key -> new LinkedHashSet<>())
+                            .add(condition.boundary())
+                    )
+                )
+            );
+            final Map<Coordinate, ValueRegions> result = new LinkedHashMap<>();
+            boundaries.forEach((subject, values) -> result.put(subject, new ValueRegions(values)));
+            return result;
+        }
+
+        /**
+         * Splits the candidates by the regions of the subject's value space.
+         *
+         * @param candidates The candidate rules, in their original order.
+         * @param subject The {@link Coordinate} to split by.
+         * @return The candidates for every region of the subject, in their original order.
+         */
+        private List<List<Rule>> branchesFor(
+            final List<Rule> candidates,
+            final Coordinate subject
+        ) {
+            final List<List<Rule>> result = new ArrayList<>();
+            for (final TypedValue value : this.regions.get(subject).representatives()) {
+                result.add(
+                    candidates.stream().filter(rule -> this.admits(rule, subject, value)).toList()
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Checks if the rule can be satisfied when the subject has the specified value. The rule
+         * is kept as a candidate if the value cannot be compared with its constants, so the
+         * complete check reports the same error as the {@link LinearScan}.
+         *
+         * @param rule The rule to check.
+         * @param subject The subject of the rule's {@link Condition}s.
+         * @param value The value of the subject.
+         * @return True, if the rule remains a candidate for that value.
+         */
+        private boolean admits(
+            final Rule rule,
+            final Coordinate subject,
+            final TypedValue value
+        ) {
+            boolean result;
+            try {
+                result = this.conditions.get(rule).getOrDefault(subject, List.of()).stream()
+                    .allMatch(condition -> condition.admits(value));
+            } catch (final IllegalArgumentException ex) {
+                result = true;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.conditions.EqualsCondition;
+import ru.ewc.decisions.conditions.SubjectComparison;
+
+/**
+ * I am the {@link RuleIndex} for the tables whose every rule compares the same {@link Coordinate}
+ * with a constant for equality. I locate that {@link Coordinate} once and check only the rules
+ * that expect its actual value, so the lookup does not depend on the number of rules.
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class EqualityIndex implements RuleIndex {
+    /**
+     * The {@link Coordinate} every rule compares with a constant.
+     */
+    private final Coordinate subject;
+
+    /**
+     * The candidate rules, in their original order, keyed by the subject's value they expect.
+     */
+    private final Map<String, List<Rule>> candidates;
+
+    /**
+     * Ctor.
+     *
+     * @param subject The {@link Coordinate} every rule compares with a constant.
+     * @param candidates The candidate rules, keyed by the subject's value they expect.
+     */
+    public EqualityIndex(final Coordinate subject, final Map<String, List<Rule>> candidates) {
+        this.subject = subject;
+        this.candidates = candidates;
+    }
+
+    /**
+     * Builds the index for the specified rules, if they all compare some {@link Coordinate} with
+     * a constant. The most selective of such {@link Coordinate}s is used.
+     *
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The index, or nothing if the rules have no common equality {@link Coordinate}.
+     */
+    public static Optional<RuleIndex> of(final List<Rule> rules) {
+        final Optional<RuleIndex> result;
+        if (rules.size() < 2) {
+            result = Optional.empty();
+        } else {
+            result = EqualityIndex.commonSubjects(rules).stream()
+                .map(subject -> new EqualityIndex(subject, EqualityIndex.indexed(rules, subject)))
+                .max((one, another) -> Integer.compare(one.size(), another.size()))
+                .map(RuleIndex.class::cast);
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<Rule> satisfiedIn(final ComputationContext context) {
+        return this.candidates
+            .getOrDefault(this.subject.valueIn(context), Collections.emptyList())
+            .stream()
+            .filter(rule -> rule.check(context));
+    }
+
+    /**
+     * Tells the number of distinct values this index discriminates.
+     *
+     * @return The number of the index keys.
+     */
+    private int size() {
+        return this.candidates.size();
+    }
+
+    /**
+     * Finds the {@link Coordinate}s every rule compares with a constant for equality.
+     *
+     * @param rules The table's rules.
+     * @return The set of common equality {@link Coordinate}s, possibly empty.
+     */
+    private static Set<Coordinate> commonSubjects(final List<Rule> rules) {
+        final Set<Coordinate> result = new LinkedHashSet<>(
+            EqualityIndex.expectations(rules.get(0)).keySet()
+        );
+        for (final Rule rule : rules) {
+            result.retainAll(EqualityIndex.expectations(rule).keySet());
+        }
+        return result;
+    }
+
+    /**
+     * Groups the rules by the values of the subject they expect.
+     *
+     * @param rules The table's rules, in their order.
+     * @param subject The {@link Coordinate} to index by.
+     * @return The unmodifiable map of the candidate rules keyed by the expected values.
+     */
+    private static Map<String, List<Rule>> indexed(
+        final List<Rule> rules,
+        final Coordinate subject
+    ) {
+        final Map<String, List<Rule>> result = new LinkedHashMap<>();
+        for (final Rule rule : rules) {
+            for (final String value : EqualityIndex.expectations(rule).get(subject)) {
+                result.computeIfAbsent(value, key -> new ArrayList<>()).add(rule);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Collects the constants the rule's {@link Coordinate}s are expected to be equal to.
+     *
+     * @param rule The rule to collect the expectations of.
+     * @return The map of the expected values keyed by the {@link Coordinate}s.
+     */
+    private static Map<Coordinate, Set<String>> expectations(final Rule rule) {
+        return rule.conditions().stream()
+            .filter(EqualsCondition.class::isInstance)
+            .flatMap(condition -> condition.subject().stream())
+            .collect(
+                Collectors.groupingBy(
+                    SubjectComparison::coordinate,
+                    LinkedHashMap::new,
+                    Collectors.mapping(
+                        SubjectComparison::boundary,
+                        Collectors.toCollection(LinkedHashSet::new)
+                    )
+                )
+            );
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am the per-session storage of the {@link DecisionGraph} nodes' evaluation results and of the
+ * state fragments' values. My main responsibility is to make sure every node is computed and every
+ * fragment is read only once per session, while the nodes themselves stay immutable and shareable
+ * between threads. Nodes are identified by their object identity, as described in ADR-0004.
+ *
+ * <p>I also track the state fragments every stored result was computed from, directly or via
+ * other stored results and values, e.g. the ones of the locators reading other locators. When a
+ * fragment changes, only the results and the values depending on it are forgotten. They are found
+ * through the reverse index of the dependencies, so a change costs as much as it forgets.
+ *
+ * <p>I am not thread-safe: every {@link ComputationContext} has its own instance of me. The
+ * sessions evaluated in parallel are forked and then adopted by their owner.</p>
+ *
+ * @since 0.10.0
+ */
+public final class ExecutionContext {
+    /**
+     * The maximum number of typed values kept when the session is reused.
+     */
+    private static final int MAX_TYPED = 4096;
+
+    /**
+     * The evaluation results, keyed by the evaluated node itself.
+     */
+    private final Map<Object, Object> results = new IdentityHashMap<>();
+
+    /**
+     * The state fragments every stored result depends on, keyed by the evaluated node itself.
+     */
+    private final Map<Object, Set<String>> depends = new IdentityHashMap<>();
+
+    /**
+     * The state fragments read by the nodes being evaluated, the innermost node on top.
+     */
+    private final Deque<Set<String>> frames = new ArrayDeque<>();
+
+    /**
+     * The state fragments' values read in this session, keyed by the locator and fragment names.
+     */
+    private final Map<String, Map<String, String>> fragments = new HashMap<>();
+
+    /**
+     * The state fragments every stored fragment's value was computed from, keyed by the locator
+     * and fragment names. Only the values read from other fragments are present.
+     */
+    private final Map<String, Map<String, Set<String>>> derived = new HashMap<>();
+
+    /**
+     * The stored results depending on every state fragment, keyed by the locator name and the
+     * fragment's key. This is the reverse of the {@link #depends}.
+     */
+    private final Map<String, Map<String, Set<Object>>> dependents = new HashMap<>();
+
+    /**
+     * The keys of the stored fragments' values computed from every state fragment, keyed by the
+     * locator name and the fragment's key. This is the reverse of the {@link #derived}.
+     */
+    private final Map<String, Map<String, Set<String>>> sources = new HashMap<>();
+
+    /**
+     * The values parsed in this session, keyed by their text. A parsed value depends on its text
+     * only, so these values never need to be forgotten.
+     */
+    private final Map<String, Object> typed = new HashMap<>();
+
+    /**
+     * The remote objects fetched in this session, keyed by their source's name and their key. They
+     * do not depend on the state, so they are not forgotten when the state changes.
+     */
+    private final Map<List<Object>, Object> remote = new HashMap<>();
+
+    /**
+     * The number of evaluations, reads and fetches saved by reusing the stored results.
+     */
+    private int hits;
+
+    /**
+     * Provides the evaluation result for the specified node, computing it only if it was not
+     * computed in this session yet.
+     *
+     * @param node The {@link DecisionGraph} node being evaluated.
+     * @param computation The computation that produces the node's result.
+     * @param <T> The type of the result.
+     * @return The evaluation result of the node.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T resultOf(final Object node, final Supplier<T> computation) {
+        final T result;
+        if (this.results.containsKey(node)) {
+            result = (T) this.results.get(node);
+            this.hits = this.hits + 1;
+            this.dependOn(this.depends.getOrDefault(node, Set.of()));
+        } else {
+            result = this.partOf(node, computation);
+            this.results.put(node, result);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the value as a part of the specified node's result, e.g. a lazily computed field of
+     * a table's outcome. The node is then considered depending on everything the computation read.
+     *
+     * @param node The {@link DecisionGraph} node the value belongs to.
+     * @param computation The computation of the value.
+     * @param <T> The type of the value.
+     * @return The computed value.
+     */
+    public <T> T partOf(final Object node, final Supplier<T> computation) {
+        final Set<String> reads = new HashSet<>();
+        this.frames.push(reads);
+        try {
+            return computation.get();
+        } finally {
+            this.frames.pop();
+            this.depends.computeIfAbsent(node, key -> new HashSet<>()).addAll(reads);
+            ExecutionContext.index(this.dependents, reads, node, ExecutionContext::identities);
+            this.dependOn(reads);
+        }
+    }
+
+    /**
+     * Tells if the specified node was already evaluated in this session.
+     *
+     * @param node The {@link DecisionGraph} node to check.
+     * @return True, if the node's result is stored in this session.
+     */
+    public boolean hasResultFor(final Object node) {
+        return this.results.containsKey(node);
+    }
+
+    /**
+     * Takes over everything evaluated in the forked session over the same state, which is no
+     * longer used by its own thread. The results already present in this session are kept.
+     *
+     * @param fork The forked session.
+     * @param owner The {@link ComputationContext} owning this session.
+     */
+    public void adopt(final ExecutionContext fork, final ComputationContext owner) {
+        fork.results.forEach(
+            (node, result) -> {
+                if (result instanceof TableOutcome) {
+                    this.results.putIfAbsent(node, ((TableOutcome) result).movedTo(owner));
+                } else {
+                    this.results.putIfAbsent(node, result);
+                }
+            }
+        );
+        fork.depends.forEach(
+            (node, reads) -> {
+                this.depends.computeIfAbsent(node, key -> new HashSet<>()).addAll(reads);
+                ExecutionContext.index(this.dependents, reads, node, ExecutionContext::identities);
+            }
+        );
+        fork.fragments.forEach(
+            (locator, values) -> values.forEach(
+                (fragment, value) -> this.fragments
+                    .computeIfAbsent(locator, name -> new HashMap<>())
+                    .putIfAbsent(fragment, value)
+            )
+        );
+        fork.derived.forEach(
+            (locator, values) -> values.forEach(
+                (fragment, reads) -> {
+                    final Set<String> own = this.derived
+                        .computeIfAbsent(locator, name -> new HashMap<>())
+                        .putIfAbsent(fragment, reads);
+                    if (own == null) {
+                        final String value = ExecutionContext.key(locator, fragment);
+                        ExecutionContext.index(this.sources, reads, value, HashSet::new);
+                    }
+                }
+            )
+        );
+        fork.typed.forEach(this.typed::putIfAbsent);
+        fork.remote.forEach(this.remote::putIfAbsent);
+        this.hits = this.hits + fork.hits;
+    }
+
+    /**
+     * Provides the value of the specified state fragment, reading it only if it was not read in
+     * this session yet. The fragments read while reading the value are remembered, so that the
+     * value is forgotten when any of them changes.
+     *
+     * @param locator The name of the fragment's locator.
+     * @param fragment The name of the fragment.
+     * @param read The actual read of the fragment's value.
+     * @return The value of the fragment.
+     */
+    public String fragmentValue(
+        final String locator,
+        final String fragment,
+        final Supplier<String> read
+    ) {
+        final Map<String, String> values =
+            this.fragments.computeIfAbsent(locator, name -> new HashMap<>());
+        String result = values.get(fragment);
+        if (result == null) {
+            final Set<String> reads = new HashSet<>();
+            this.frames.push(reads);
+            try {
+                result = read.get();
+            } finally {
+                this.frames.pop();
+            }
+            values.put(fragment, result);
+            if (!reads.isEmpty()) {
+                this.derived.computeIfAbsent(locator, name -> new HashMap<>()).put(fragment, reads);
+                ExecutionContext.index(
+                    this.sources, reads, ExecutionContext.key(locator, fragment), HashSet::new
+                );
+            }
+        } else {
+            this.hits = this.hits + 1;
+        }
+        this.dependOnFragment(locator, fragment);
+        return result;
+    }
+
+    /**
+     * Provides the remote object, fetching it only if it was not fetched in this session yet.
+     *
+     * @param source The name of the object's source.
+     * @param key The key of the object in its source.
+     * @param fetch The actual fetch of the object.
+     * @param <T> The type of the object.
+     * @return The remote object.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T remoteObject(final String source, final Object key, final Supplier<T> fetch) {
+        final List<Object> id = List.of(source, key);
+        final T result;
+        if (this.remote.containsKey(id)) {
+            result = (T) this.remote.get(id);
+            this.hits = this.hits + 1;
+        } else {
+            result = fetch.get();
+            this.remote.put(id, result);
+        }
+        return result;
+    }
+
+    /**
+     * Provides the value parsed from the specified text, parsing it only once per session. The
+     * parsed values are keyed by their text only, so the same parser has to be used for every
+     * text, e.g. {@link TypedValue#of(String)}.
+     *
+     * @param text The text of the value.
+     * @param parser The actual parsing of the text.
+     * @param <T> The type of the parsed value.
+     * @return The parsed value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T parsed(final String text, final Function<String, T> parser) {
+        return (T) this.typed.computeIfAbsent(text, parser);
+    }
+
+    /**
+     * Provides the number of times a stored result was reused instead of computing the node again,
+     * together with the number of times a stored fragment's value or remote object was reused
+     * instead of reading or fetching it again.
+     *
+     * @return The number of evaluations, reads and fetches saved in this session.
+     */
+    public int hits() {
+        return this.hits;
+    }
+
+    /**
+     * Forgets the value of the changed fragment and all the evaluation results that were computed
+     * from it. All the other results are kept.
+     *
+     * @param locator The name of the changed fragment's locator.
+     * @param fragment The name of the changed fragment.
+     */
+    public void invalidate(final String locator, final String fragment) {
+        this.forgetValue(locator, fragment);
+        this.forget(locator, Set.of(ExecutionContext.key(locator, fragment)));
+    }
+
+    /**
+     * Forgets everything evaluated in this session, so it could be reused for another state. The
+     * typed values are kept, unless there are too many of them.
+     */
+    public void clear() {
+        this.results.clear();
+        this.depends.clear();
+        this.fragments.clear();
+        this.derived.clear();
+        this.dependents.clear();
+        this.sources.clear();
+        this.remote.clear();
+        this.hits = 0;
+        if (this.typed.size() > ExecutionContext.MAX_TYPED) {
+            this.typed.clear();
+        }
+    }
+
+    /**
+     * Forgets all the values of the changed locator and all the evaluation results that were
+     * computed from them.
+     *
+     * @param locator The name of the changed locator.
+     */
+    public void invalidate(final String locator) {
+        final Set<String> changed = new HashSet<>();
+        changed.addAll(this.dependents.getOrDefault(locator, Map.of()).keySet());
+        changed.addAll(this.sources.getOrDefault(locator, Map.of()).keySet());
+        final Set<String> read = new HashSet<>();
+        read.addAll(this.fragments.getOrDefault(locator, Map.of()).keySet());
+        read.addAll(this.derived.getOrDefault(locator, Map.of()).keySet());
+        read.forEach(fragment -> this.forgetValue(locator, fragment));
+        this.forget(locator, changed);
+    }
+
+    /**
+     * Adds the state fragments to the ones read by the node being evaluated, if any.
+     *
+     * @param reads The read state fragments.
+     */
+    private void dependOn(final Set<String> reads) {
+        if (!this.frames.isEmpty()) {
+            this.frames.peek().addAll(reads);
+        }
+    }
+
+    /**
+     * Adds the state fragment, and the fragments its value was computed from, to the ones read by
+     * the node being evaluated. Nothing is done, not even the fragment's key is built, if no node
+     * is being evaluated, so the plain reads of the cached values cost a single lookup.
+     *
+     * @param locator The name of the fragment's locator.
+     * @param fragment The name of the fragment.
+     */
+    private void dependOnFragment(final String locator, final String fragment) {
+        if (!this.frames.isEmpty()) {
+            final Set<String> frame = this.frames.peek();
+            frame.add(ExecutionContext.key(locator, fragment));
+            final Map<String, Set<String>> sources = this.derived.get(locator);
+            if (sources != null && sources.containsKey(fragment)) {
+                frame.addAll(sources.get(fragment));
+            }
+        }
+    }
+
+    /**
+     * Forgets the results and the fragments' values depending on the changed state fragments.
+     * Every dependency is stored with all the fragments it was transitively computed from, so a
+     * single pass is enough.
+     *
+     * @param locator The name of the changed fragments' locator.
+     * @param changed The keys of the changed fragments.
+     */
+    private void forget(final String locator, final Collection<String> changed) {
+        final Set<Object> nodes = ExecutionContext.identities();
+        final Set<String> values = new HashSet<>();
+        final Map<String, Set<Object>> evaluated = this.dependents.getOrDefault(locator, Map.of());
+        final Map<String, Set<String>> computed = this.sources.getOrDefault(locator, Map.of());
+        changed.forEach(
+            key -> {
+                nodes.addAll(evaluated.getOrDefault(key, Set.of()));
+                values.addAll(computed.getOrDefault(key, Set.of()));
+            }
+        );
+        nodes.forEach(
+            node -> {
+                this.results.remove(node);
+                ExecutionContext.unindex(this.dependents, this.depends.remove(node), node);
+            }
+        );
+        values.forEach(
+            value -> {
+                final String source = ExecutionContext.locatorOf(value);
+                this.forgetValue(source, value.substring(source.length() + 2));
+            }
+        );
+    }
+
+    /**
+     * Forgets the value of the state fragment, together with the fragments it was computed from.
+     *
+     * @param locator The name of the fragment's locator.
+     * @param fragment The name of the fragment.
+     */
+    private void forgetValue(final String locator, final String fragment) {
+        final Map<String, String> values = this.fragments.get(locator);
+        if (values != null) {
+            values.remove(fragment);
+        }
+        final Map<String, Set<String>> reads = this.derived.get(locator);
+        if (reads != null) {
+            ExecutionContext.unindex(
+                this.sources, reads.remove(fragment), ExecutionContext.key(locator, fragment)
+            );
+        }
+    }
+
+    /**
+     * Adds the dependent result or value to the reverse index of every fragment it was read from.
+     *
+     * @param index The reverse index to add to.
+     * @param reads The keys of the fragments the dependent was read from.
+     * @param dependent The dependent result or value.
+     * @param empty The factory of an empty set of dependents.
+     * @param <T> The type of the dependents.
+     */
+    private static <T> void index(
+        final Map<String, Map<String, Set<T>>> index,
+        final Set<String> reads,
+        final T dependent,
+        final Supplier<Set<T>> empty
+    ) {
+        reads.forEach(
+            read -> index
+                .computeIfAbsent(ExecutionContext.locatorOf(read), name -> new HashMap<>())
+                .computeIfAbsent(read, key -> empty.get())
+                .add(dependent)
+        );
+    }
+
+    /**
+     * Removes the forgotten result or value from the reverse index of every fragment it was read
+     * from, dropping the fragments nothing depends on anymore.
+     *
+     * @param index The reverse index to remove from.
+     * @param reads The keys of the fragments the dependent was read from, if any.
+     * @param dependent The forgotten result or value.
+     * @param <T> The type of the dependents.
+     */
+    private static <T> void unindex(
+        final Map<String, Map<String, Set<T>>> index,
+        final Set<String> reads,
+        final T dependent
+    ) {
+        if (reads != null) {
+            reads.forEach(
+                read -> {
+                    final Map<String, Set<T>> dependents =
+                        index.get(ExecutionContext.locatorOf(read));
+                    if (dependents != null && dependents.containsKey(read)) {
+                        final Set<T> remaining = dependents.get(read);
+                        remaining.remove(dependent);
+                        if (remaining.isEmpty()) {
+                            dependents.remove(read);
+                        }
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Provides an empty set of the nodes, compared by their identity as described in ADR-0004.
+     *
+     * @return The empty set of the nodes.
+     */
+    private static Set<Object> identities() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Provides the locator's name of the state fragment's key.
+     *
+     * @param key The key of the fragment, e.g. {@code order::total}.
+     * @return The name of the fragment's locator, e.g. {@code order}.
+     */
+    private static String locatorOf(final String key) {
+        return key.substring(0, key.indexOf("::"));
+    }
+
+    /**
+     * Provides the key of the state fragment.
+     *
+     * @param locator The name of the fragment's locator.
+     * @param fragment The name of the fragment.
+     * @return The key of the fragment, e.g. {@code order::total}.
+     */
+    private static String key(final String locator, final String fragment) {
+        return locator + "::" + fragment;
+    }
+}
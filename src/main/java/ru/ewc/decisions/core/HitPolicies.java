@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.HitPolicy;
+
+/**
+ * I am the behavior of the {@link HitPolicy}s, i.e. the way a {@link DecisionTable} chooses its
+ * satisfied {@link Rule} under every policy. The policies are a part of the library's API, while
+ * the rules they choose from are not, that's why the choice is made here.
+ *
+ * @since 0.10.0
+ */
+final class HitPolicies {
+    /**
+     * Ctor.
+     */
+    private HitPolicies() {
+        // utility class
+    }
+
+    /**
+     * Chooses the satisfied {@link Rule} according to the specified policy.
+     *
+     * @param policy The policy to choose the rule by.
+     * @param satisfied The lazy stream of the table's satisfied {@link Rule}s, in their order.
+     * @param table The name of the table.
+     * @return The satisfied {@link Rule}, or nothing if no rule is satisfied.
+     * @throws DecitaException If the satisfied rules violate the policy.
+     */
+    static Optional<Rule> select(
+        final HitPolicy policy,
+        final Stream<Rule> satisfied,
+        final String table
+    ) throws DecitaException {
+        final Optional<Rule> result;
+        if (policy == HitPolicy.UNIQUE) {
+            final List<Rule> found = satisfied.limit(2).toList();
+            if (found.size() > 1) {
+                throw new DecitaException("%s - Multiple rules are satisfied".formatted(table));
+            }
+            result = found.stream().findFirst();
+        } else {
+            result = satisfied.findFirst();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.OutputTracker;
+import ru.ewc.decisions.conditions.Condition;
+import ru.ewc.decisions.conditions.SubjectComparison;
+
+/**
+ * I am the {@link RuleIndex} for the threshold tables, whose every rule compares the same
+ * {@link Coordinate} with numeric constants (e.g. {@code >100}, {@code <500}). The numeric
+ * constants split the {@link Coordinate}'s values into sorted intervals, and every interval knows
+ * the rules it satisfies. So the actual value is parsed once, its interval is found via binary
+ * search, and only the candidates' conditions on the other {@link Coordinate}s are evaluated.
+ *
+ * <p>The values that cannot be put into a single interval (like the non-numeric ones) fall back
+ * to the complete check of every rule, so the outcomes stay the same as the ones of the
+ * {@link LinearScan}.</p>
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class IntervalIndex implements RuleIndex {
+    /**
+     * The {@link Coordinate} every rule compares with numeric constants.
+     */
+    private final Coordinate subject;
+
+    /**
+     * The intervals of the subject's values.
+     */
+    private final ValueRegions regions;
+
+    /**
+     * The indices of the candidate rules, in their original order, for every interval.
+     */
+    private final List<int[]> candidates;
+
+    /**
+     * The rules' conditions not depending on the subject, in the order of the rules.
+     */
+    private final List<List<Condition>> rest;
+
+    /**
+     * All the rules, checked completely if the value does not belong to any interval.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * Ctor.
+     *
+     * @param subject The {@link Coordinate} every rule compares with numeric constants.
+     * @param regions The intervals of the subject's values.
+     * @param candidates The indices of the candidate rules for every interval.
+     * @param rest The rules' conditions not depending on the subject.
+     * @param rules All the rules, in their original order.
+     */
+    private IntervalIndex(
+        final Coordinate subject,
+        final ValueRegions regions,
+        final List<int[]> candidates,
+        final List<List<Condition>> rest,
+        final List<Rule> rules
+    ) {
+        this.subject = subject;
+        this.regions = regions;
+        this.candidates = candidates;
+        this.rest = rest;
+        this.rules = rules;
+    }
+
+    /**
+     * Builds the index for the specified rules, if they all compare some {@link Coordinate} with
+     * numeric constants and at least one of them is a threshold, not an equality.
+     *
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The index, or nothing if the rules have no common threshold {@link Coordinate}.
+     */
+    public static Optional<RuleIndex> of(final List<Rule> rules) {
+        final List<Map<Coordinate, List<SubjectComparison>>> grouped = rules.stream()
+            .map(Rule::comparisonsBySubject)
+            .toList();
+        Optional<RuleIndex> result = Optional.empty();
+        if (rules.size() > 1) {
+            result = IntervalIndex.commonSubjects(grouped).stream()
+                .filter(subject -> IntervalIndex.isThreshold(grouped, subject))
+                .findFirst()
+                .map(subject -> IntervalIndex.indexed(rules, grouped, subject));
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<Rule> satisfiedIn(final ComputationContext context) {
+        final int region = this.regions.regionOf(this.subject.typedIn(context));
+        final Stream<Rule> result;
+        if (region >= this.candidates.size()) {
+            result = new LinearScan(this.rules).satisfiedIn(context);
+        } else {
+            result = IntStream.of(this.candidates.get(region))
+                .filter(index -> this.restSatisfied(index, context))
+                .mapToObj(this.rules::get);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the candidate's conditions that do not depend on the subject.
+     *
+     * @param index The index of the candidate rule.
+     * @param context The context to evaluate the conditions in.
+     * @return True, if the rule is satisfied.
+     */
+    private boolean restSatisfied(final int index, final ComputationContext context) {
+        final boolean result = this.rest.get(index).stream()
+            .allMatch(condition -> condition.evaluate(context));
+        context.logComputation(
+            OutputTracker.EventType.RL,
+            "%s => %s",
+            this.rules.get(index).asString(),
+            result
+        );
+        return result;
+    }
+
+    /**
+     * Finds the {@link Coordinate}s every rule compares with a constant.
+     *
+     * @param grouped The rules' conditions grouped by their subjects.
+     * @return The set of common {@link Coordinate}s, possibly empty.
+     */
+    private static Set<Coordinate> commonSubjects(
+        final List<Map<Coordinate, List<SubjectComparison>>> grouped
+    ) {
+        final Set<Coordinate> result = new LinkedHashSet<>(grouped.get(0).keySet());
+        grouped.forEach(conditions -> result.retainAll(conditions.keySet()));
+        return result;
+    }
+
+    /**
+     * Checks if the subject is compared with numeric constants only, and not only for equality.
+     *
+     * @param grouped The rules' conditions grouped by their subjects.
+     * @param subject The {@link Coordinate} to check.
+     * @return True, if the subject's conditions can be indexed by the numeric intervals.
+     */
+    private static boolean isThreshold(
+        final List<Map<Coordinate, List<SubjectComparison>>> grouped,
+        final Coordinate subject
+    ) {
+        final List<SubjectComparison> all = IntervalIndex.conditionsOn(grouped, subject);
+        return all.stream().allMatch(
+            condition -> TypedValue.of(condition.boundary()).isNumber()
+        ) && !all.stream().allMatch(SubjectComparison::isEquality);
+    }
+
+    /**
+     * Builds the index by the specified subject.
+     *
+     * @param rules The table's rules, in their order.
+     * @param grouped The rules' conditions grouped by their subjects.
+     * @param subject The {@link Coordinate} to index by.
+     * @return The built index, having no candidates for the non-numeric values.
+     */
+    private static RuleIndex indexed(
+        final List<Rule> rules,
+        final List<Map<Coordinate, List<SubjectComparison>>> grouped,
+        final Coordinate subject
+    ) {
+        final ValueRegions regions = new ValueRegions(
+            IntervalIndex.conditionsOn(grouped, subject).stream()
+                .map(SubjectComparison::boundary)
+                .toList()
+        );
+        final List<TypedValue> values = regions.representatives();
+        final List<int[]> candidates = new ArrayList<>(regions.size());
+        for (final TypedValue value : values.subList(0, values.size() - 1)) {
+            candidates.add(
+                IntStream.range(0, rules.size())
+                    .filter(
+                        index -> grouped.get(index).get(subject).stream()
+                            .allMatch(condition -> condition.admits(value))
+                    )
+                    .toArray()
+            );
+        }
+        return new IntervalIndex(
+            subject,
+            regions,
+            List.copyOf(candidates),
+            rules.stream()
+                .map(
+                    rule -> rule.conditions().stream()
+                        .filter(
+                            condition -> condition.subject()
+                                .map(SubjectComparison::coordinate)
+                                .filter(subject::equals)
+                                .isEmpty()
+                        )
+                        .toList()
+                )
+                .toList(),
+            List.copyOf(rules)
+        );
+    }
+
+    /**
+     * Collects all the rules' conditions on the specified subject.
+     *
+     * @param grouped The rules' conditions grouped by their subjects.
+     * @param subject The subject of the conditions.
+     * @return The list of the conditions.
+     */
+    private static List<SubjectComparison> conditionsOn(
+        final List<Map<Coordinate, List<SubjectComparison>>> grouped,
+        final Coordinate subject
+    ) {
+        return grouped.stream()
+            .map(conditions -> conditions.get(subject))
+            .flatMap(Collection::stream)
+            .toList();
+    }
+}
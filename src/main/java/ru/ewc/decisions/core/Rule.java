@@ -24,8 +24,12 @@
 
 package ru.ewc.decisions.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
@@ -34,6 +38,7 @@ import ru.ewc.decisions.api.RuleFragment;
 import ru.ewc.decisions.api.RuleFragments;
 import ru.ewc.decisions.commands.Assignment;
 import ru.ewc.decisions.conditions.Condition;
+import ru.ewc.decisions.conditions.SubjectComparison;
 
 /**
  * I am a single Rule (i.e. the column in the decision table). My main responsibility is to check
@@ -86,19 +91,85 @@ public final class Rule {
             .allMatch(c -> c.evaluate(context));
         context.logComputation(
             OutputTracker.EventType.RL,
-            "%s => %s".formatted(this.asString(), result)
+            "%s => %s",
+            this.name,
+            result
         );
         return result;
     }
 
     /**
-     * Returns this rule outcomes.
+     * Provides the compiled {@link Condition}s of this rule.
      *
-     * @param context The {@link ComputationContext} to get the outcomes in.
-     * @return The simple dictionary, containing all this rule's outcomes.
+     * @return The list of this rule's {@link Condition}s.
      */
-    public Map<String, String> outcome(final ComputationContext context) {
-        return this.fragments.outcomes(context);
+    public List<Condition> conditions() {
+        return this.fragments.conditions();
+    }
+
+    /**
+     * Groups the comparisons of some {@link Coordinate} with a constant, made by the rule's
+     * {@link Condition}s, by that {@link Coordinate}.
+     *
+     * @return The {@link SubjectComparison}s grouped by their subjects, in their original order.
+     */
+    public Map<Coordinate, List<SubjectComparison>> comparisonsBySubject() {
+        final Map<Coordinate, List<SubjectComparison>> result = new LinkedHashMap<>();
+        for (final Condition condition : this.conditions()) {
+            condition.subject().ifPresent(
+                subject -> result
+                    .computeIfAbsent(subject.coordinate(), key -> new ArrayList<>())
+                    .add(subject)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Provides the static {@link Coordinate}s this rule reads, when checked, when its outcomes
+     * are computed and when it is performed.
+     *
+     * @return The {@link Coordinate}s known to be read in advance.
+     */
+    public Stream<Coordinate> reads() {
+        return Stream.concat(
+            Stream.concat(
+                this.conditions().stream().flatMap(Condition::operands),
+                this.fragments.outcomeCoordinates().stream()
+            ).flatMap(Coordinate::reads),
+            this.fragments.assignments().stream().flatMap(Assignment::reads)
+        );
+    }
+
+    /**
+     * Checks if all the outcomes of this rule are constants, i.e. can be computed without any
+     * state.
+     *
+     * @return True, if no outcome reads the state or other tables.
+     */
+    public boolean hasConstantOutcomes() {
+        return this.fragments.outcomeCoordinates().stream()
+            .allMatch(coordinate -> coordinate.isComputed() && coordinate.isResolved());
+    }
+
+    /**
+     * Provides the names of this rule's outcomes.
+     *
+     * @return The set of the outcome names.
+     */
+    public Set<String> outcomeNames() {
+        return this.fragments.outcomeNames();
+    }
+
+    /**
+     * Computes the single outcome of this rule.
+     *
+     * @param name The name of the outcome.
+     * @param context The {@link ComputationContext} to compute the outcome in.
+     * @return The value of the outcome, or {@code undefined} if there's no such outcome.
+     */
+    public String outcome(final String name, final ComputationContext context) {
+        return this.fragments.outcome(name, context);
     }
 
     /**
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.List;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.EvaluationMode;
+
+/**
+ * I am the compiled form of a {@link DecisionTable}'s rules, responsible for finding the rules
+ * satisfied in the specific {@link ComputationContext}. Different implementations trade the
+ * compilation effort for the number of conditions checked during every evaluation.
+ *
+ * @since 0.10.0
+ */
+public interface RuleIndex {
+    /**
+     * Compiles the specified rules into the most efficient {@link RuleIndex} applicable to them.
+     *
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The compiled {@link RuleIndex}.
+     */
+    static RuleIndex of(final List<Rule> rules) {
+        return EqualityIndex.of(rules)
+            .or(() -> IntervalIndex.of(rules))
+            .orElseGet(() -> new LinearScan(rules));
+    }
+
+    /**
+     * Compiles the specified rules according to the specified {@link EvaluationMode}.
+     *
+     * @param mode The way the table looks for its satisfied rules.
+     * @param rules The table's rules, except for the else rule, in their order.
+     * @return The compiled {@link RuleIndex}.
+     */
+    static RuleIndex of(final EvaluationMode mode, final List<Rule> rules) {
+        return switch (mode) {
+            case LINEAR -> new LinearScan(rules);
+            case INDEXED -> RuleIndex.of(rules);
+            case TREE -> DecisionTree.of(rules);
+            case BITSET -> ConditionBitsets.of(rules);
+            case COMPILED -> CompiledRules.of(rules);
+        };
+    }
+
+    /**
+     * Finds the rules satisfied in the specified context. The rules are provided lazily and in
+     * their original order, so the caller can stop at any satisfied rule.
+     *
+     * @param context The {@link ComputationContext} to check the rules in.
+     * @return The lazy stream of the satisfied rules.
+     * @throws DecitaException If some rule cannot be checked.
+     */
+    Stream<Rule> satisfiedIn(ComputationContext context) throws DecitaException;
+}
@@ -0,0 +1,472 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.HitPolicy;
+import ru.ewc.decisions.conditions.Condition;
+import ru.ewc.decisions.conditions.SubjectComparison;
+
+/**
+ * I am the static analysis of a {@link DecisionTable}'s rules, performed once the table is loaded.
+ * My main responsibility is to prove (or refute) that the rules are mutually exclusive and that
+ * the else rule can be reached at all.
+ *
+ * <p>Only the {@link Condition}s comparing a static {@link Coordinate} with a constant (using any
+ * of {@code =}, {@code !}, {@code >} and {@code <}) take part in the analysis, while different
+ * {@link Coordinate}s are considered independent. The value space of every {@link Coordinate} is
+ * split into regions by the constants it is compared with, and a single representative value per
+ * region is checked, which makes the analysis exact for such conditions. Values that cannot be
+ * compared with some constant make the evaluation fail, so they never count as satisfying.</p>
+ *
+ * @since 0.10.0
+ */
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class RulesAnalysis {
+    /**
+     * The analysis that has not been performed at all.
+     */
+    public static final RulesAnalysis NOT_PERFORMED = new RulesAnalysis(
+        Proof.UNKNOWN, Proof.UNKNOWN, ""
+    );
+
+    /**
+     * The maximum number of value combinations checked while looking for the else rule coverage.
+     */
+    private static final int MAX_POINTS = 4096;
+
+    /**
+     * Whether the rules are mutually exclusive.
+     */
+    private final Proof exclusive;
+
+    /**
+     * Whether the else rule can be reached.
+     */
+    private final Proof reachable;
+
+    /**
+     * The pair of rules that are not proven to be mutually exclusive, if any.
+     */
+    private final String overlap;
+
+    /**
+     * Ctor.
+     *
+     * @param exclusive Whether the rules are mutually exclusive.
+     * @param reachable Whether the else rule can be reached.
+     * @param overlap The pair of rules that are not proven to be mutually exclusive.
+     */
+    private RulesAnalysis(final Proof exclusive, final Proof reachable, final String overlap) {
+        this.exclusive = exclusive;
+        this.reachable = reachable;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Analyzes the specified rules.
+     *
+     * @param rules The table's rules, except for the else rule.
+     * @return The results of the analysis.
+     */
+    public static RulesAnalysis of(final List<Rule> rules) {
+        final List<Constraints> constraints = rules.stream().map(Constraints::new).toList();
+        final Map<Coordinate, List<TypedValue>> samples = RulesAnalysis.samplesFor(constraints);
+        String overlap = "";
+        Proof exclusive = Proof.PROVEN;
+        for (int first = 0; first < rules.size() && exclusive != Proof.REFUTED; first += 1) {
+            for (int second = first + 1; second < rules.size(); second += 1) {
+                final Constraints one = constraints.get(first);
+                final Constraints another = constraints.get(second);
+                if (!one.excludes(another, samples)) {
+                    overlap = "'%s' and '%s'".formatted(
+                        rules.get(first).asString(),
+                        rules.get(second).asString()
+                    );
+                    if (one.isComplete() && another.isComplete()) {
+                        exclusive = Proof.REFUTED;
+                        break;
+                    }
+                    exclusive = Proof.UNKNOWN;
+                }
+            }
+        }
+        return new RulesAnalysis(
+            exclusive,
+            RulesAnalysis.elseReachability(constraints, samples),
+            overlap
+        );
+    }
+
+    /**
+     * Tells whether the rules are mutually exclusive.
+     *
+     * @return The {@link Proof} of the rules' exclusiveness.
+     */
+    public Proof exclusive() {
+        return this.exclusive;
+    }
+
+    /**
+     * Tells whether the else rule can be reached.
+     *
+     * @return The {@link Proof} of the else rule's reachability.
+     */
+    public Proof reachable() {
+        return this.reachable;
+    }
+
+    /**
+     * Describes the rules that are not proven to be mutually exclusive.
+     *
+     * @return The names of both rules, or an empty string if all the rules are exclusive.
+     */
+    public String overlap() {
+        return this.overlap;
+    }
+
+    /**
+     * Checks that the table's rules conform to the declared {@link HitPolicy}, and chooses the
+     * policy to actually use for them. The rules proven to be mutually exclusive are not checked
+     * for the multiple satisfied rules during the evaluation.
+     *
+     * @param declared The {@link HitPolicy} declared for the table.
+     * @param table The name of the table.
+     * @return The policy to use for the table's rules.
+     * @throws DecitaException If the rules do not conform to the declared policy.
+     */
+    public HitPolicy policyFor(final HitPolicy declared, final String table)
+        throws DecitaException {
+        final HitPolicy result;
+        if (declared == HitPolicy.FIRST) {
+            result = declared;
+        } else if (this.exclusive == Proof.PROVEN) {
+            result = HitPolicy.UNIQUE_VERIFIED;
+        } else if (declared == HitPolicy.UNIQUE) {
+            result = declared;
+        } else {
+            throw new DecitaException(
+                "%s - Rules %s are not proven to be mutually exclusive"
+                    .formatted(table, this.overlap)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Describes the results of this analysis in a human-readable form.
+     *
+     * @return The report about the table's rules.
+     */
+    public String report() {
+        final StringBuilder result = new StringBuilder(64)
+            .append("mutually exclusive rules: ")
+            .append(this.exclusive.asString());
+        if (!this.overlap.isEmpty()) {
+            result.append(" (").append(this.overlap).append(')');
+        }
+        return result
+            .append(", reachable else rule: ")
+            .append(this.reachable.asString())
+            .toString();
+    }
+
+    /**
+     * Checks every combination of the sample values, looking for the one no rule is satisfied by.
+     *
+     * @param constraints The constraints of all the rules.
+     * @param samples The sample values of each {@link Coordinate}.
+     * @return The {@link Proof} of the else rule's reachability.
+     */
+    private static Proof elseReachability(
+        final List<Constraints> constraints,
+        final Map<Coordinate, List<TypedValue>> samples
+    ) {
+        final List<Coordinate> subjects = new ArrayList<>(samples.keySet());
+        long total = 1;
+        for (final Coordinate subject : subjects) {
+            total = Math.min(total * samples.get(subject).size(), RulesAnalysis.MAX_POINTS + 1);
+        }
+        Proof result = Proof.UNKNOWN;
+        if (total <= RulesAnalysis.MAX_POINTS) {
+            result = Proof.REFUTED;
+            final Map<Coordinate, TypedValue> point = new LinkedHashMap<>();
+            for (int index = 0; index < total; index += 1) {
+                int rest = index;
+                for (final Coordinate subject : subjects) {
+                    final List<TypedValue> values = samples.get(subject);
+                    point.put(subject, values.get(rest % values.size()));
+                    rest = rest / values.size();
+                }
+                if (RulesAnalysis.isUncovered(constraints, point)) {
+                    result = Proof.PROVEN;
+                    break;
+                }
+            }
+            if (result == Proof.REFUTED
+                && !constraints.stream().allMatch(Constraints::isComplete)) {
+                result = Proof.UNKNOWN;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if no rule is satisfied by the specified values.
+     *
+     * @param constraints The constraints of all the rules.
+     * @param point The values of all the {@link Coordinate}s.
+     * @return True, if the values can be computed and no rule is satisfied by them.
+     */
+    private static boolean isUncovered(
+        final List<Constraints> constraints,
+        final Map<Coordinate, TypedValue> point
+    ) {
+        boolean result = true;
+        try {
+            for (final Constraints rule : constraints) {
+                if (rule.admits(point)) {
+                    result = false;
+                    break;
+                }
+            }
+        } catch (final IllegalArgumentException ex) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Collects the representative values for every {@link Coordinate} the rules depend on.
+     *
+     * @param constraints The constraints of all the rules.
+     * @return The representative values of each {@link Coordinate}, one per each region.
+     */
+    private static Map<Coordinate, List<TypedValue>> samplesFor(
+        final List<Constraints> constraints
+    ) {
+        final Map<Coordinate, Set<String>> boundaries = new LinkedHashMap<>();
+        for (final Constraints rule : constraints) {
+            rule.collectBoundaries(boundaries);
+        }
+        final Map<Coordinate, List<TypedValue>> result = new LinkedHashMap<>();
+        boundaries.forEach(
+            (subject, values) -> result.put(subject, new ValueRegions(values).representatives())
+        );
+        return result;
+    }
+
+    /**
+     * The result of a proof.
+     *
+     * @since 0.10.0
+     */
+    public enum Proof {
+        /**
+         * The statement is proven to be true.
+         */
+        PROVEN,
+
+        /**
+         * The statement is proven to be false.
+         */
+        REFUTED,
+
+        /**
+         * The statement can be neither proven nor refuted.
+         */
+        UNKNOWN;
+
+        /**
+         * Represents this proof as a String.
+         *
+         * @return The lower-cased name of this proof.
+         */
+        public String asString() {
+            return this.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * I am the set of a single rule's analyzable {@link Condition}s, grouped by their subjects.
+     *
+     * @since 0.10.0
+     */
+    private static final class Constraints {
+        /**
+         * The analyzable comparisons of the rule's {@link Condition}s, grouped by their subjects.
+         */
+        private final Map<Coordinate, List<SubjectComparison>> conditions;
+
+        /**
+         * Whether all the rule's {@link Condition}s are analyzable.
+         */
+        private final boolean complete;
+
+        /**
+         * Whether some constant {@link Condition} of the rule is never satisfied.
+         */
+        private final boolean dead;
+
+        /**
+         * Ctor.
+         *
+         * @param rule The rule to collect the {@link Condition}s of.
+         */
+        Constraints(final Rule rule) {
+            this(rule.comparisonsBySubject(), rule.conditions());
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param grouped The analyzable comparisons of the rule, grouped by subjects.
+         * @param all All the rule's {@link Condition}s.
+         */
+        private Constraints(
+            final Map<Coordinate, List<SubjectComparison>> grouped,
+            final List<Condition> all
+        ) {
+            this(
+                grouped,
+                all.stream().allMatch(c -> c.isEvaluated() || c.subject().isPresent()),
+                all.stream().anyMatch(c -> c.isEvaluated() && !c.isSatisfied())
+            );
+        }
+
+        /**
+         * Primary ctor.
+         *
+         * @param conditions The analyzable comparisons of the rule, grouped by subjects.
+         * @param complete Whether all the rule's {@link Condition}s are analyzable.
+         * @param dead Whether some constant {@link Condition} of the rule is never satisfied.
+         */
+        private Constraints(
+            final Map<Coordinate, List<SubjectComparison>> conditions,
+            final boolean complete,
+            final boolean dead
+        ) {
+            this.conditions = conditions;
+            this.complete = complete;
+            this.dead = dead;
+        }
+
+        /**
+         * Tells if all the rule's {@link Condition}s are analyzable.
+         *
+         * @return True, if the rule can be satisfied by the analyzed conditions only.
+         */
+        boolean isComplete() {
+            return this.complete;
+        }
+
+        /**
+         * Adds the constants every subject is compared with to the specified map.
+         *
+         * @param boundaries The constants of every subject.
+         */
+        void collectBoundaries(final Map<Coordinate, Set<String>> boundaries) {
+            this.conditions.forEach(
+                (subject, list) -> list.forEach(
+                    condition -> boundaries
+                        .computeIfAbsent(subject, key -> new LinkedHashSet<>())
+                        .add(condition.boundary())
+                )
+            );
+        }
+
+        /**
+         * Checks if this rule and the other one cannot be satisfied together, i.e. if there's a
+         * subject no sample value of which satisfies both.
+         *
+         * @param other The constraints of the other rule.
+         * @param samples The sample values of each {@link Coordinate}.
+         * @return True, if it's proven that both rules are never satisfied together.
+         */
+        boolean excludes(final Constraints other, final Map<Coordinate, List<TypedValue>> samples) {
+            boolean result = this.dead || other.dead;
+            for (final Coordinate subject : this.conditions.keySet()) {
+                if (result) {
+                    break;
+                }
+                if (other.conditions.containsKey(subject)) {
+                    result = samples.get(subject).stream().noneMatch(
+                        value -> this.admitsSafely(subject, value)
+                            && other.admitsSafely(subject, value)
+                    );
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Checks if the analyzable part of the rule is satisfied by the specified values.
+         *
+         * @param point The values of all the {@link Coordinate}s.
+         * @return True, if all the analyzable {@link Condition}s are satisfied.
+         * @throws IllegalArgumentException If some value cannot be compared with a constant.
+         */
+        boolean admits(final Map<Coordinate, TypedValue> point) {
+            return !this.dead && this.conditions.keySet().stream()
+                .allMatch(subject -> this.admits(subject, point.get(subject)));
+        }
+
+        /**
+         * Checks if all the {@link Condition}s of the subject are satisfied by the value.
+         *
+         * @param subject The subject of the {@link Condition}s.
+         * @param value The value of the subject.
+         * @return True, if all the subject's {@link Condition}s are satisfied.
+         */
+        private boolean admits(final Coordinate subject, final TypedValue value) {
+            return this.conditions.get(subject).stream().allMatch(c -> c.admits(value));
+        }
+
+        /**
+         * Checks if all the {@link Condition}s of the subject are satisfied by the value,
+         * considering values that cannot be compared as not satisfying.
+         *
+         * @param subject The subject of the {@link Condition}s.
+         * @param value The value of the subject.
+         * @return True, if all the subject's {@link Condition}s are satisfied.
+         */
+        private boolean admitsSafely(final Coordinate subject, final TypedValue value) {
+            boolean result;
+            try {
+                result = this.admits(subject, value);
+            } catch (final IllegalArgumentException ex) {
+                result = false;
+            }
+            return result;
+        }
+    }
+}
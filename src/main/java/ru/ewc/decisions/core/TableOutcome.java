@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * I am the outcome of a {@link DecisionTable} in the specific {@link ComputationContext}, i.e. its
+ * satisfied {@link Rule}. My fields are computed only on demand and only once, so the tables that
+ * are consumed one field at a time do not pay for their unused outcomes, including the chained
+ * lookups into other tables.
+ *
+ * @since 0.10.0
+ */
+final class TableOutcome {
+    /**
+     * The table this is the outcome of.
+     */
+    private final DecisionTable table;
+
+    /**
+     * The satisfied {@link Rule} of the table.
+     */
+    private final Rule rule;
+
+    /**
+     * The context to compute the fields in.
+     */
+    private final ComputationContext context;
+
+    /**
+     * The already computed fields.
+     */
+    private final Map<String, String> fields;
+
+    /**
+     * Ctor.
+     *
+     * @param table The table this is the outcome of.
+     * @param rule The satisfied {@link Rule} of the table.
+     * @param context The context to compute the fields in.
+     */
+    TableOutcome(final DecisionTable table, final Rule rule, final ComputationContext context) {
+        this(table, rule, context, new HashMap<>());
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param table The table this is the outcome of.
+     * @param rule The satisfied {@link Rule} of the table.
+     * @param context The context to compute the fields in.
+     * @param fields The already computed fields.
+     */
+    private TableOutcome(
+        final DecisionTable table,
+        final Rule rule,
+        final ComputationContext context,
+        final Map<String, String> fields
+    ) {
+        this.table = table;
+        this.rule = rule;
+        this.context = context;
+        this.fields = fields;
+    }
+
+    /**
+     * Provides the single field of the outcome, computing it if necessary. The table's outcome is
+     * considered depending on everything the field's computation reads.
+     *
+     * @param name The name of the field.
+     * @return The value of the field, or {@code undefined} if there's no such field.
+     */
+    String field(final String name) {
+        String result = this.fields.get(name);
+        if (result == null) {
+            result = this.context.partOf(
+                this.table,
+                () -> this.rule.outcome(name, this.context)
+            );
+            this.fields.put(name, result);
+        }
+        return result;
+    }
+
+    /**
+     * Provides all the fields of the outcome, computing the missing ones.
+     *
+     * @return The unmodifiable dictionary of all the fields.
+     */
+    Map<String, String> all() {
+        final Map<String, String> result = new HashMap<>();
+        for (final String name : this.rule.outcomeNames()) {
+            result.put(name, this.field(name));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Moves this outcome to another {@link ComputationContext} over the same state, keeping the
+     * already computed fields.
+     *
+     * @param target The context to compute the rest of the fields in.
+     * @return The outcome bound to the target context.
+     */
+    TableOutcome movedTo(final ComputationContext target) {
+        return new TableOutcome(this.table, this.rule, target, new HashMap<>(this.fields));
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+
+/**
+ * I am the precompiled description of a dynamic {@link Coordinate}, like
+ * {@code cells::${request::move}}. I am parsed only once, into the literal parts and the
+ * placeholders, which are templates themselves, so resolving me is a single pass that appends the
+ * parts' values to one buffer. The placeholders with the static address read their values
+ * directly, without any parsing at all.
+ *
+ * @since 0.10.0
+ */
+final class Template {
+    /**
+     * The template without any placeholders, used for the already resolved {@link Coordinate}s.
+     */
+    static final Template RESOLVED = new Template("", List.of());
+
+    /**
+     * The opening of a placeholder.
+     */
+    private static final String OPENING = "${";
+
+    /**
+     * The closing of a placeholder.
+     */
+    private static final char CLOSING = '}';
+
+    /**
+     * The source text of this template.
+     */
+    private final String source;
+
+    /**
+     * The parts of this template, in order.
+     */
+    private final List<Part> parts;
+
+    /**
+     * Ctor.
+     *
+     * @param source The source text of this template.
+     * @param parts The parts of this template, in order.
+     */
+    private Template(final String source, final List<Part> parts) {
+        this.source = source;
+        this.parts = parts;
+    }
+
+    /**
+     * Compiles the template for the {@link Coordinate}'s address.
+     *
+     * @param locator The locator part of the address.
+     * @param fragment The fragment part of the address.
+     * @return The compiled template, or {@link #RESOLVED} if there are no placeholders.
+     * @throws DecitaException If some placeholder is not closed.
+     */
+    static Template of(final String locator, final String fragment) {
+        final Template result;
+        if (locator.contains(Template.OPENING) || fragment.contains(Template.OPENING)) {
+            result = Template.parsed("%s::%s".formatted(locator, fragment));
+        } else {
+            result = Template.RESOLVED;
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the template.
+     *
+     * @param text The source text of the template.
+     * @return The compiled template.
+     * @throws DecitaException If some placeholder is not closed.
+     */
+    static Template parsed(final String text) {
+        final Parser parser = new Parser(text);
+        return parser.template(false);
+    }
+
+    /**
+     * Substitutes the placeholders' values in the provided {@link ComputationContext}.
+     *
+     * @param context The {@link ComputationContext} to get the placeholders' values from.
+     * @return The resolved text.
+     */
+    String renderedIn(final ComputationContext context) {
+        final StringBuilder result = new StringBuilder(this.source.length());
+        this.appendTo(result, context);
+        return result.toString();
+    }
+
+    /**
+     * Appends the resolved text to the buffer.
+     *
+     * @param buffer The buffer to append the text to.
+     * @param context The {@link ComputationContext} to get the placeholders' values from.
+     */
+    private void appendTo(final StringBuilder buffer, final ComputationContext context) {
+        for (final Part part : this.parts) {
+            part.appendTo(buffer, context);
+        }
+    }
+
+    /**
+     * Provides the static {@link Coordinate}s this template reads while being resolved.
+     *
+     * @return The {@link Coordinate}s of the placeholders known in advance.
+     */
+    Stream<Coordinate> reads() {
+        return this.parts.stream().flatMap(Part::reads);
+    }
+
+    /**
+     * Tells if this template has no placeholders.
+     *
+     * @return True, if this template is just a literal text.
+     */
+    private boolean isLiteral() {
+        return this.parts.stream().allMatch(Literal.class::isInstance);
+    }
+
+    /**
+     * I am the single part of a {@link Template}.
+     *
+     * @since 0.10.0
+     */
+    private interface Part {
+        /**
+         * Appends my resolved value to the buffer.
+         *
+         * @param buffer The buffer to append the value to.
+         * @param context The {@link ComputationContext} to get the value from.
+         */
+        void appendTo(StringBuilder buffer, ComputationContext context);
+
+        /**
+         * Provides the static {@link Coordinate}s I read while being resolved.
+         *
+         * @return The {@link Coordinate}s known in advance.
+         */
+        Stream<Coordinate> reads();
+    }
+
+    /**
+     * I am the literal text.
+     *
+     * @since 0.10.0
+     */
+    private static final class Literal implements Part {
+        /**
+         * The text itself.
+         */
+        private final String text;
+
+        /**
+         * Ctor.
+         *
+         * @param text The text itself.
+         */
+        Literal(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void appendTo(final StringBuilder buffer, final ComputationContext context) {
+            buffer.append(this.text);
+        }
+
+        @Override
+        public Stream<Coordinate> reads() {
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * I am the placeholder with the static address, e.g. {@code ${request::move}}.
+     *
+     * @since 0.10.0
+     */
+    private static final class StaticPlaceholder implements Part {
+        /**
+         * The {@link Coordinate} of the value.
+         */
+        private final Coordinate coordinate;
+
+        /**
+         * Ctor.
+         *
+         * @param coordinate The {@link Coordinate} of the value.
+         */
+        StaticPlaceholder(final Coordinate coordinate) {
+            this.coordinate = coordinate;
+        }
+
+        @Override
+        public void appendTo(final StringBuilder buffer, final ComputationContext context) {
+            buffer.append(this.coordinate.valueIn(context));
+        }
+
+        @Override
+        public Stream<Coordinate> reads() {
+            return this.coordinate.reads();
+        }
+    }
+
+    /**
+     * I am the placeholder with the address that has to be resolved itself, e.g.
+     * {@code ${constant::${request::move}}}.
+     *
+     * @since 0.10.0
+     */
+    private static final class DynamicPlaceholder implements Part {
+        /**
+         * The template of the value's address.
+         */
+        private final Template address;
+
+        /**
+         * Ctor.
+         *
+         * @param address The template of the value's address.
+         */
+        DynamicPlaceholder(final Template address) {
+            this.address = address;
+        }
+
+        @Override
+        public void appendTo(final StringBuilder buffer, final ComputationContext context) {
+            buffer.append(Coordinate.from(this.address.renderedIn(context)).valueIn(context));
+        }
+
+        @Override
+        public Stream<Coordinate> reads() {
+            return this.address.reads();
+        }
+    }
+
+    /**
+     * I am the recursive descent parser of the {@link Template}s.
+     *
+     * @since 0.10.0
+     */
+    private static final class Parser {
+        /**
+         * The text to parse.
+         */
+        private final String text;
+
+        /**
+         * The current position in the text.
+         */
+        private int position;
+
+        /**
+         * Ctor.
+         *
+         * @param text The text to parse.
+         */
+        Parser(final String text) {
+            this.text = text;
+        }
+
+        /**
+         * Parses the template up to the end of the text or to the closing of the enclosing
+         * placeholder.
+         *
+         * @param nested Whether the template is the address of the enclosing placeholder.
+         * @return The parsed template.
+         * @throws DecitaException If some placeholder is not closed.
+         */
+        Template template(final boolean nested) {
+            final int start = this.position;
+            final List<Part> parts = new ArrayList<>(2);
+            int literal = this.position;
+            while (this.position < this.text.length()
+                && !(nested && this.text.charAt(this.position) == Template.CLOSING)) {
+                if (this.text.startsWith(Template.OPENING, this.position)) {
+                    if (literal < this.position) {
+                        parts.add(new Literal(this.text.substring(literal, this.position)));
+                    }
+                    parts.add(this.placeholder());
+                    literal = this.position;
+                } else {
+                    this.position += 1;
+                }
+            }
+            if (literal < this.position) {
+                parts.add(new Literal(this.text.substring(literal, this.position)));
+            }
+            return new Template(this.text.substring(start, this.position), List.copyOf(parts));
+        }
+
+        /**
+         * Parses the placeholder starting at the current position.
+         *
+         * @return The parsed placeholder.
+         * @throws DecitaException If the placeholder is not closed.
+         */
+        private Part placeholder() {
+            this.position += Template.OPENING.length();
+            final Template address = this.template(true);
+            if (this.position >= this.text.length()) {
+                throw new DecitaException(
+                    "Placeholder is not closed in '%s'".formatted(this.text)
+                );
+            }
+            this.position += 1;
+            final Part result;
+            if (address.isLiteral()) {
+                result = new StaticPlaceholder(Coordinate.from(address.source));
+            } else {
+                result = new DynamicPlaceholder(address);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * I am the value of a {@link Coordinate} together with its type, which is inferred from the value's
+ * text only once. So the comparisons work with the parsed primitives and never re-parse the text.
+ * The text is a number, if it consists of the optional minus sign, digits and the optional
+ * fractional part, e.g. {@code -12} or {@code 3.5}.
+ *
+ * @since 0.10.0
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public final class TypedValue implements Comparable<TypedValue> {
+    /**
+     * The maximum number of digits that surely fits into a {@code long}.
+     */
+    private static final int LONG_DIGITS = 18;
+
+    /**
+     * The original text of the value.
+     */
+    @EqualsAndHashCode.Include
+    private final String text;
+
+    /**
+     * The inferred type of the value.
+     */
+    private final Type type;
+
+    /**
+     * The integer value, if the type is {@link Type#LONG}.
+     */
+    private final long integer;
+
+    /**
+     * The numeric value, if the value is a number.
+     */
+    private final double number;
+
+    /**
+     * Ctor.
+     *
+     * @param text The original text of the value.
+     * @param type The inferred type of the value.
+     * @param integer The integer value, if the type is {@link Type#LONG}.
+     * @param number The numeric value, if the value is a number.
+     */
+    private TypedValue(
+        final String text,
+        final Type type,
+        final long integer,
+        final double number
+    ) {
+        this.text = text;
+        this.type = type;
+        this.integer = integer;
+        this.number = number;
+    }
+
+    /**
+     * Infers the type of the specified text and parses it accordingly.
+     *
+     * @param text The text of the value.
+     * @return The typed value.
+     */
+    public static TypedValue of(final String text) {
+        final TypedValue result;
+        final Type type = TypedValue.typeOf(text);
+        if (type == Type.LONG) {
+            final long parsed = Long.parseLong(text);
+            result = new TypedValue(text, type, parsed, parsed);
+        } else if (type == Type.DOUBLE) {
+            result = new TypedValue(text, type, 0, Double.parseDouble(text));
+        } else {
+            result = new TypedValue(text, type, 0, Double.NaN);
+        }
+        return result;
+    }
+
+    /**
+     * Provides the inferred type of this value.
+     *
+     * @return The type of this value.
+     */
+    public Type type() {
+        return this.type;
+    }
+
+    /**
+     * Tells if this value is a number.
+     *
+     * @return True, if this value is an integer or a fractional number.
+     */
+    public boolean isNumber() {
+        return this.type == Type.LONG || this.type == Type.DOUBLE;
+    }
+
+    /**
+     * Provides this value as a number.
+     *
+     * @return The numeric value, or {@code NaN} if this value is not a number.
+     */
+    public double asDouble() {
+        return this.number;
+    }
+
+    /**
+     * Provides the original text of this value.
+     *
+     * @return The text of this value.
+     */
+    public String asString() {
+        return this.text;
+    }
+
+    @Override
+    public int compareTo(final TypedValue other) {
+        final int result;
+        if (this.type == Type.LONG && other.type == Type.LONG) {
+            result = Long.compare(this.integer, other.integer);
+        } else if (this.isNumber() && other.isNumber()) {
+            result = Double.compare(this.number, other.number);
+        } else {
+            throw new IllegalArgumentException("Cannot compare strings");
+        }
+        return result;
+    }
+
+    /**
+     * Infers the type of the text without any regular expressions.
+     *
+     * @param text The text of the value.
+     * @return The inferred type.
+     */
+    private static Type typeOf(final String text) {
+        final int length = text.length();
+        int position = 0;
+        if (length > 0 && text.charAt(0) == '-') {
+            position = 1;
+        }
+        final int digits = TypedValue.digitsFrom(text, position);
+        position += digits;
+        Type result = Type.STRING;
+        if (digits > 0 && position == length) {
+            if (digits > TypedValue.LONG_DIGITS) {
+                result = Type.DOUBLE;
+            } else {
+                result = Type.LONG;
+            }
+        } else if (digits > 0 && text.charAt(position) == '.') {
+            final int fraction = TypedValue.digitsFrom(text, position + 1);
+            if (fraction > 0 && position + 1 + fraction == length) {
+                result = Type.DOUBLE;
+            }
+        } else if ("true".equals(text) || "false".equals(text)) {
+            result = Type.BOOLEAN;
+        }
+        return result;
+    }
+
+    /**
+     * Counts the decimal digits starting from the specified position.
+     *
+     * @param text The text to scan.
+     * @param start The position to start from.
+     * @return The number of consecutive digits.
+     */
+    private static int digitsFrom(final String text, final int start) {
+        int position = start;
+        while (position < text.length()
+            && text.charAt(position) >= '0' && text.charAt(position) <= '9') {
+            position += 1;
+        }
+        return position - start;
+    }
+
+    /**
+     * The type of the value.
+     *
+     * @since 0.10.0
+     */
+    public enum Type {
+        /**
+         * The integer number.
+         */
+        LONG,
+
+        /**
+         * The fractional number (or the integer too long for {@link #LONG}).
+         */
+        DOUBLE,
+
+        /**
+         * The {@code true} or {@code false} value.
+         */
+        BOOLEAN,
+
+        /**
+         * Any other text.
+         */
+        STRING
+    }
+}
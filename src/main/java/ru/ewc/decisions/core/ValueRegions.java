@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * I am the partition of some {@link Coordinate}'s value space into regions, made by the constants
+ * that {@link Coordinate} is compared with. All the values of a region satisfy exactly the same
+ * comparisons with those constants. The regions are: every constant itself, the numeric intervals
+ * between and around the numeric constants, the values numerically equal to a numeric constant
+ * but written differently (e.g. {@code 1.0} for {@code 1}), and the rest of the values.
+ *
+ * @since 0.10.0
+ */
+final class ValueRegions {
+    /**
+     * The indices of the regions made by the constants themselves.
+     */
+    private final Map<String, Integer> exact;
+
+    /**
+     * The distinct numeric constants, in the ascending order.
+     */
+    private final List<BigDecimal> numbers;
+
+    /**
+     * The numeric constants as primitives, in the ascending order, to search the values among.
+     */
+    private final double[] bounds;
+
+    /**
+     * Ctor.
+     *
+     * @param boundaries The constants some {@link Coordinate} is compared with.
+     */
+    ValueRegions(final Collection<String> boundaries) {
+        this(ValueRegions.indexed(boundaries), ValueRegions.numbersOf(boundaries));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param exact The indices of the regions made by the constants themselves.
+     * @param numbers The distinct numeric constants, in the ascending order.
+     */
+    private ValueRegions(final Map<String, Integer> exact, final List<BigDecimal> numbers) {
+        this(
+            exact,
+            numbers,
+            numbers.stream().mapToDouble(BigDecimal::doubleValue).toArray()
+        );
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param exact The indices of the regions made by the constants themselves.
+     * @param numbers The distinct numeric constants, in the ascending order.
+     * @param bounds The numeric constants as primitives, in the ascending order.
+     */
+    private ValueRegions(
+        final Map<String, Integer> exact,
+        final List<BigDecimal> numbers,
+        final double[] bounds
+    ) {
+        this.exact = exact;
+        this.numbers = numbers;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Tells the number of the regions.
+     *
+     * @return The number of the regions.
+     */
+    int size() {
+        return this.exact.size() + this.intervals() + this.numbers.size() + 1;
+    }
+
+    /**
+     * Provides one representative value per each region, in the order of the region indices.
+     *
+     * @return The list of the representative values, typed once.
+     */
+    List<TypedValue> representatives() {
+        final String[] result = new String[this.size()];
+        this.exact.forEach((value, index) -> result[index] = value);
+        for (int index = 0; index < this.intervals(); index += 1) {
+            final BigDecimal value;
+            if (index == 0) {
+                value = this.numbers.get(0).subtract(BigDecimal.ONE);
+            } else if (index == this.numbers.size()) {
+                value = this.numbers.get(index - 1).add(BigDecimal.ONE);
+            } else {
+                value = this.numbers.get(index - 1).add(this.numbers.get(index))
+                    .divide(BigDecimal.valueOf(2));
+            }
+            result[this.exact.size() + index] = value.toPlainString();
+        }
+        for (int index = 0; index < this.numbers.size(); index += 1) {
+            final StringBuilder alias = new StringBuilder(this.numbers.get(index).toPlainString());
+            if (alias.indexOf(".") < 0) {
+                alias.append('.');
+            }
+            alias.append('0');
+            while (this.exact.containsKey(alias.toString())) {
+                alias.append('0');
+            }
+            result[this.exact.size() + this.intervals() + index] = alias.toString();
+        }
+        final StringBuilder other = new StringBuilder("undefined");
+        while (this.exact.containsKey(other.toString())) {
+            other.append('\'');
+        }
+        result[result.length - 1] = other.toString();
+        return Arrays.stream(result).map(TypedValue::of).toList();
+    }
+
+    /**
+     * Finds the region of the specified value.
+     *
+     * @param value The value of the {@link Coordinate}.
+     * @return The index of the value's region.
+     */
+    int regionOf(final TypedValue value) {
+        int result = this.exact.getOrDefault(value.asString(), -1);
+        if (result < 0) {
+            if (this.intervals() > 0 && value.isNumber()) {
+                final int found = Arrays.binarySearch(this.bounds, value.asDouble());
+                if (found < 0) {
+                    result = this.exact.size() - found - 1;
+                } else {
+                    result = this.exact.size() + this.intervals() + found;
+                }
+            } else {
+                result = this.size() - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells the number of the numeric intervals.
+     *
+     * @return The number of the intervals, or zero if there are no numeric constants.
+     */
+    private int intervals() {
+        final int result;
+        if (this.numbers.isEmpty()) {
+            result = 0;
+        } else {
+            result = this.numbers.size() + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Assigns the region indices to the distinct constants.
+     *
+     * @param boundaries The constants.
+     * @return The unmodifiable map of the region indices keyed by the constants.
+     */
+    private static Map<String, Integer> indexed(final Collection<String> boundaries) {
+        final Map<String, Integer> result = new HashMap<>();
+        for (final String value : new LinkedHashSet<>(boundaries)) {
+            result.put(value, result.size());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Collects the distinct numeric constants.
+     *
+     * @param boundaries The constants.
+     * @return The distinct numeric constants, in the ascending order.
+     */
+    private static List<BigDecimal> numbersOf(final Collection<String> boundaries) {
+        final List<BigDecimal> result = new ArrayList<>();
+        boundaries.stream()
+            .filter(value -> TypedValue.of(value).isNumber())
+            .map(BigDecimal::new)
+            .sorted()
+            .forEach(
+                number -> {
+                    if (result.isEmpty()
+                        || result.get(result.size() - 1).compareTo(number) != 0) {
+                        result.add(number);
+                    }
+                }
+            );
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -31,10 +31,15 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import ru.ewc.decisions.api.ComputableLocator;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.EvaluationMode;
+import ru.ewc.decisions.api.HitPolicy;
 import ru.ewc.decisions.api.RuleFragment;
 import ru.ewc.decisions.api.RuleFragments;
 import ru.ewc.decisions.core.DecisionTable;
 import ru.ewc.decisions.core.Rule;
+import ru.ewc.decisions.core.RuleIndex;
+import ru.ewc.decisions.core.RulesAnalysis;
 
 /**
  * I am a class that represents the lines from the source file grouped by the type of the line.
@@ -42,6 +47,11 @@ import ru.ewc.decisions.core.Rule;
  * @since 0.8.0
  */
 public final class SourceLines implements Iterable<String[]> {
+    /**
+     * The type of the line declaring the table's {@link HitPolicy}.
+     */
+    private static final String HIT_POLICY = "HIT";
+
     /**
      * The name of the source file.
      */
@@ -73,15 +83,49 @@ public final class SourceLines implements Iterable<String[]> {
     }
 
     public ComputableLocator asDecisionTable() {
+        return this.asDecisionTable(HitPolicy.UNIQUE);
+    }
+
+    /**
+     * Compiles these lines into a {@link DecisionTable}.
+     *
+     * @param fallback The {@link HitPolicy} to use if the table does not declare its own one.
+     * @return The compiled {@link DecisionTable}.
+     * @throws DecitaException If the table's rules do not conform to its {@link HitPolicy}.
+     */
+    public ComputableLocator asDecisionTable(final HitPolicy fallback) throws DecitaException {
+        return this.asDecisionTable(fallback, EvaluationMode.LINEAR);
+    }
+
+    /**
+     * Compiles these lines into a {@link DecisionTable}.
+     *
+     * @param fallback The {@link HitPolicy} to use if the table does not declare its own one.
+     * @param mode The way the table looks for its satisfied rules.
+     * @return The compiled {@link DecisionTable}.
+     * @throws DecitaException If the table's rules do not conform to its {@link HitPolicy}.
+     */
+    public ComputableLocator asDecisionTable(final HitPolicy fallback, final EvaluationMode mode)
+        throws DecitaException {
+        final HitPolicy policy = this.hitPolicy(fallback);
+        final List<Rule> rules = this.specifiedRules();
+        final RulesAnalysis analysis = RulesAnalysis.of(rules);
         return new DecisionTable(
-            this.specifiedRules(),
+            rules,
             this.elseRule(),
-            this.file
+            this.file,
+            analysis.policyFor(policy, this.file),
+            analysis,
+            RuleIndex.of(mode, rules)
         );
     }
 
     public List<RuleFragments> specifiedRulesFragments() {
-        final int columns = this.ungrouped.get(0).split(this.delimiter).length;
+        final int columns = this.ungrouped.stream()
+            .filter(line -> !line.startsWith(SourceLines.HIT_POLICY))
+            .findFirst()
+            .map(line -> line.split(this.delimiter).length)
+            .orElse(0);
         return IntStream.range(2, columns)
             .mapToObj(i -> RuleFragments.listFrom(this, i))
             .toList();
@@ -114,6 +158,17 @@ public final class SourceLines implements Iterable<String[]> {
         return result;
     }
 
+    private HitPolicy hitPolicy(final HitPolicy fallback) {
+        final String[][] declared = this.asArrayOf(SourceLines.HIT_POLICY);
+        final HitPolicy result;
+        if (declared.length == 0 || declared[0].length == 0) {
+            result = fallback;
+        } else {
+            result = HitPolicy.from(declared[0][0]);
+        }
+        return result;
+    }
+
     private List<Rule> specifiedRules() {
         return this.specifiedRulesFragments().stream()
             .map(Rule::new)
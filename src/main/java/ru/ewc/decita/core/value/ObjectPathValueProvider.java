@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decita.core.value;
+
+import java.util.Map;
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * A {@link ValueProvider} of a single field of a complex object, e.g. {@code address.city} of the
+ * user fetched by a {@link RemoteDataValueProvider}. The object and its nested fields are expected
+ * to be {@link Map}s. A missing field is provided as {@code undefined}, the same way as a missing
+ * fragment of a {@link ru.ewc.decisions.api.Locator}.
+ *
+ * @since 0.10.0
+ */
+public final class ObjectPathValueProvider implements ValueProvider<Object> {
+    /**
+     * The value of a missing field.
+     */
+    private static final String UNDEFINED = "undefined";
+
+    /**
+     * The provider of the complex object.
+     */
+    private final ValueProvider<?> source;
+
+    /**
+     * The names of the nested fields leading to the value.
+     */
+    private final String[] path;
+
+    /**
+     * Constructs a new {@link ObjectPathValueProvider}.
+     *
+     * @param source The provider of the complex object.
+     * @param path The dot-separated path to the field, e.g. {@code address.city}.
+     */
+    public ObjectPathValueProvider(final ValueProvider<?> source, final String path) {
+        this.source = source;
+        this.path = path.split("\\.");
+    }
+
+    @Override
+    public Object valueFrom(final ComputationContext context) {
+        Object current = this.source.valueFrom(context);
+        for (final String field : this.path) {
+            if (current instanceof Map) {
+                current = ((Map<?, ?>) current).get(field);
+            } else {
+                current = null;
+            }
+        }
+        final Object result;
+        if (current == null) {
+            result = ObjectPathValueProvider.UNDEFINED;
+        } else {
+            result = current;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decita.core.value;
+
+/**
+ * The source of the remote objects, e.g. a REST service or a database, implemented by the
+ * application. The engine never calls it directly, only via {@link RemoteDataValueProvider}, which
+ * makes sure every object is fetched only once per evaluation session.
+ *
+ * @param <T> The type of the fetched objects.
+ * @param <K> The type of the objects' keys.
+ * @since 0.10.0
+ */
+@FunctionalInterface
+public interface RemoteDataSource<T, K> {
+    /**
+     * Fetches the object. The sessions evaluated in parallel can call it concurrently.
+     *
+     * @param key The key of the object.
+     * @return The fetched object.
+     */
+    T fetch(K key);
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decita.core.value;
+
+import ru.ewc.decisions.api.ComputationContext;
+
+/**
+ * A {@link ValueProvider} of the whole remote object. The object is fetched from its
+ * {@link RemoteDataSource} only once per {@link ComputationContext} and is then served from the
+ * context's cache, so all the {@link ObjectPathValueProvider}s slicing the same object share a
+ * single round trip.
+ *
+ * @param <T> The type of the remote object.
+ * @param <K> The type of the object's key.
+ * @since 0.10.0
+ */
+public final class RemoteDataValueProvider<T, K> implements ValueProvider<T> {
+    /**
+     * The logical name of the source, which identifies its objects in the cache.
+     */
+    private final String name;
+
+    /**
+     * The source to fetch the object from.
+     */
+    private final RemoteDataSource<T, K> source;
+
+    /**
+     * The provider of the object's key.
+     */
+    private final ValueProvider<K> key;
+
+    /**
+     * Constructs a new {@link RemoteDataValueProvider}.
+     *
+     * @param name The logical name of the source, e.g. {@code userService}.
+     * @param source The source to fetch the object from.
+     * @param key The provider of the object's key.
+     */
+    public RemoteDataValueProvider(
+        final String name,
+        final RemoteDataSource<T, K> source,
+        final ValueProvider<K> key
+    ) {
+        this.name = name;
+        this.source = source;
+        this.key = key;
+    }
+
+    @Override
+    public T valueFrom(final ComputationContext context) {
+        final K id = this.key.valueFrom(context);
+        return context.remoteObject(this.name, id, () -> this.source.fetch(id));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decita.core.value;
+
+import java.util.Map;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.Locator;
+
+/**
+ * A read-only {@link Locator} whose fragments are computed by {@link ValueProvider}s, so the
+ * decision tables can use the fields of the remote objects like any other state, e.g.
+ * {@code user::age}.
+ *
+ * @since 0.10.0
+ */
+public final class ValueProviderLocator implements Locator {
+    /**
+     * The name of the locator.
+     */
+    private final String name;
+
+    /**
+     * The providers of the fragments, keyed by the fragments' names.
+     */
+    private final Map<String, ValueProvider<?>> fragments;
+
+    /**
+     * Constructs a new {@link ValueProviderLocator}.
+     *
+     * @param name The name of the locator.
+     * @param fragments The providers of the fragments, keyed by the fragments' names.
+     */
+    public ValueProviderLocator(final String name, final Map<String, ValueProvider<?>> fragments) {
+        this.name = name;
+        this.fragments = Map.copyOf(fragments);
+    }
+
+    @Override
+    public String fragmentBy(final String fragment, final ComputationContext context) {
+        final ValueProvider<?> provider = this.fragments.get(fragment);
+        final String result;
+        if (provider == null) {
+            result = "undefined";
+        } else {
+            result = String.valueOf(provider.valueFrom(context));
+        }
+        return result;
+    }
+
+    @Override
+    public void setFragmentValue(final String fragment, final String value) {
+        throw new DecitaException(
+            "%s - Cannot set '%s', the locator is read-only".formatted(this.name, fragment)
+        );
+    }
+
+    @Override
+    public String locatorName() {
+        return this.name;
+    }
+}
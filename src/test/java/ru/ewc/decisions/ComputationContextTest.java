@@ -24,11 +24,15 @@
 
 package ru.ewc.decisions;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.DecitaException;
+import ru.ewc.decisions.api.InMemoryLocator;
+import ru.ewc.decisions.api.Locator;
 import ru.ewc.decisions.core.Coordinate;
 import ru.ewc.state.State;
 
@@ -49,6 +53,28 @@ final class ComputationContextTest {
         );
     }
 
+    @Test
+    void shouldReadStateFragmentOncePerContext() {
+        final AtomicInteger reads = new AtomicInteger();
+        final ComputationContext context = TestObjects.tablesFolderWithState(
+            new State(List.of(ComputationContextTest.countingLocator(reads)))
+        );
+        context.valueFor("request", "player");
+        context.valueFor("request", "player");
+        MatcherAssert.assertThat(
+            "The repeated read should be served from the context",
+            reads.get(),
+            Matchers.is(1)
+        );
+        context.setValueFor("request", "player", "O");
+        context.valueFor("request", "player");
+        MatcherAssert.assertThat(
+            "The changed fragment should be read again",
+            reads.get(),
+            Matchers.is(2)
+        );
+    }
+
     @Test
     void shouldGetCommandsUnresolvedParts() {
         final ComputationContext context = TestObjects.tablesFolderWithState(State.EMPTY);
@@ -58,4 +84,25 @@ final class ComputationContextTest {
             Matchers.containsInAnyOrder("request::shop")
         );
     }
+
+    private static Locator countingLocator(final AtomicInteger reads) {
+        final Locator delegate = InMemoryLocator.empty("request");
+        return new Locator() {
+            @Override
+            public String fragmentBy(final String fragment, final ComputationContext context) {
+                reads.incrementAndGet();
+                return delegate.fragmentBy(fragment, context);
+            }
+
+            @Override
+            public void setFragmentValue(final String fragment, final String value) {
+                delegate.setFragmentValue(fragment, value);
+            }
+
+            @Override
+            public String locatorName() {
+                return delegate.locatorName();
+            }
+        };
+    }
 }
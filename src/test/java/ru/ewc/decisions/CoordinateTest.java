@@ -24,6 +24,7 @@
 
 package ru.ewc.decisions;
 
+import org.assertj.core.api.Assertions;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Nested;
@@ -69,23 +70,34 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("${cells::A1}");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("cells", "A1", "empty");
-            target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate defined by a single placeholder is resolved to a constant coordinate",
-                target.asString(),
+                target.resolvedIn(context).asString(),
                 Matchers.is("constant::empty")
             );
         }
 
+        @Test
+        void whenResolvedThenShouldBeTypedWithoutFurtherResolution() {
+            final Coordinate target = Coordinate.from("${cells::A1}");
+            final ComputationContext context = TestObjects.ticTacToeContext();
+            context.setValueFor("cells", "A1", "42");
+            final Coordinate resolved = target.resolvedIn(context);
+            MatcherAssert.assertThat(
+                "Resolved coordinate should be a typed constant needing no more resolution",
+                resolved.isResolved() && resolved.typed().isNumber(),
+                Matchers.is(true)
+            );
+        }
+
         @Test
         void whenLocatorIsDynamicThenShouldResolveToStaticConstant() {
             final Coordinate target = Coordinate.from("${request::locator}::A1");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "locator", "cells");
-            target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with a single placeholder is resolved to a static coordinate",
-                target.asString(),
+                target.resolvedIn(context).asString(),
                 Matchers.is("cells::A1")
             );
         }
@@ -95,10 +107,9 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("cells::${request::fragment}");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "fragment", "A1");
-            target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with a single placeholder is resolved to a static coordinate",
-                target.asString(),
+                target.resolvedIn(context).asString(),
                 Matchers.is("cells::A1")
             );
         }
@@ -108,10 +119,9 @@ final class CoordinateTest {
             final Coordinate target = Coordinate.from("${constant::cells}::${request::fragment}");
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "fragment", "A1");
-            target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with two placeholders is resolved to a static coordinate",
-                target.asString(),
+                target.resolvedIn(context).asString(),
                 Matchers.is("cells::A1")
             );
         }
@@ -123,14 +133,32 @@ final class CoordinateTest {
             );
             final ComputationContext context = TestObjects.ticTacToeContext();
             context.setValueFor("request", "fragment", "A1");
-            target.resolveIn(context);
             MatcherAssert.assertThat(
                 "Dynamic coordinate with two placeholders is resolved to a static coordinate",
-                target.asString(),
+                target.resolvedIn(context).asString(),
                 Matchers.is("cells::A1")
             );
         }
 
+        @Test
+        void whenPlaceholderRepeatsThenShouldResolveEveryOccurrence() {
+            final Coordinate target = Coordinate.from("${request::fragment}::${request::fragment}");
+            final ComputationContext context = TestObjects.ticTacToeContext();
+            context.setValueFor("request", "fragment", "A1");
+            MatcherAssert.assertThat(
+                "Every occurrence of the placeholder is replaced with its value",
+                target.resolvedIn(context).asString(),
+                Matchers.is("A1::A1")
+            );
+        }
+
+        @Test
+        void whenPlaceholderIsNotClosedThenShouldFailOnCreation() {
+            Assertions.assertThatThrownBy(() -> Coordinate.from("cells::${request::move"))
+                .isInstanceOf(DecitaException.class)
+                .hasMessageContaining("not closed");
+        }
+
         @Test
         void testDynamicCoordinateNotResolvedAfterCreation() {
             final Coordinate target = Coordinate.from("outcome::${dynamically::defined}");
@@ -173,12 +201,16 @@ final class CoordinateTest {
         void testChangesUponLocation() throws DecitaException {
             final Coordinate target = Coordinate.from("always_true::outcome");
             final ComputationContext context = TestObjects.defaultContext();
-            target.locateIn(context);
             MatcherAssert.assertThat(
                 "Locating the coordinate means computing its constant value",
-                target.isComputed(),
+                target.locateIn(context).isComputed(),
                 Matchers.is(true)
             );
+            MatcherAssert.assertThat(
+                "Locating the coordinate leaves the coordinate itself untouched",
+                target.isComputed(),
+                Matchers.is(false)
+            );
         }
     }
 }
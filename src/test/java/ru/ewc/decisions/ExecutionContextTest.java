@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ru.ewc.decisions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.core.ExecutionContext;
+
+/**
+ * The tests for {@link ExecutionContext}.
+ *
+ * @since 0.10.0
+ */
+final class ExecutionContextTest {
+    @Test
+    void shouldForgetOnlyWhatWasReadFromChangedFragment() {
+        final ExecutionContext session = new ExecutionContext();
+        final Object total = new Object();
+        final Object name = new Object();
+        session.resultOf(total, () -> session.fragmentValue("order", "total", () -> "10"));
+        session.resultOf(name, () -> session.fragmentValue("client", "name", () -> "Ann"));
+        session.fragmentValue(
+            "order", "tier", () -> session.fragmentValue("client", "level", () -> "gold")
+        );
+        session.invalidate("client", "level");
+        session.invalidate("order", "total");
+        final AtomicInteger reads = new AtomicInteger();
+        session.fragmentValue(
+            "order", "tier", () -> String.valueOf(reads.incrementAndGet())
+        );
+        MatcherAssert.assertThat(
+            "Only the results and values read from the changed fragments should be forgotten",
+            List.of(session.hasResultFor(total), session.hasResultFor(name), reads.get()),
+            Matchers.contains(false, true, 1)
+        );
+        session.invalidate("client");
+        MatcherAssert.assertThat(
+            "All the results read from the changed locator should be forgotten",
+            session.hasResultFor(name),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void shouldForgetSavedEvaluationsWhenCleared() {
+        final ExecutionContext session = new ExecutionContext();
+        final Object node = new Object();
+        session.resultOf(node, () -> "value");
+        session.resultOf(node, () -> "value");
+        session.clear();
+        MatcherAssert.assertThat(
+            "The cleared session should count its own saved evaluations only",
+            List.of(session.hasResultFor(node), session.hits()),
+            Matchers.contains(false, 0)
+        );
+    }
+}
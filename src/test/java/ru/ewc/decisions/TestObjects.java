@@ -93,10 +93,19 @@ public final class TestObjects {
 
     public static ComputationContext tablesFolderWithState(final State state) {
         return new ComputationContext(
-            state, DecisionTables.using(new CombinedCsvFileReader(uriTo("tables"), ".csv", ";"))
+            state, DecisionTables.using(new CombinedCsvFileReader(tablesFolder(), ".csv", ";"))
         );
     }
 
+    /**
+     * The folder containing all the test decision tables.
+     *
+     * @return The {@link URI} of the folder with test tables.
+     */
+    public static URI tablesFolder() {
+        return uriTo("tables");
+    }
+
     /**
      * A collection of default (required) {@link Locator}s.
      *
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * Tests for {@link TypedValue} class.
+ *
+ * @since 0.10.0
+ */
+final class TypedValueTest {
+    @ValueSource(strings = {"0", "-12", "42", "123456789012345678"})
+    @ParameterizedTest(name = "{index}: \"{0}\" is an integer")
+    void shouldInferIntegers(final String text) {
+        MatcherAssert.assertThat(
+            "Should infer the integer type",
+            TypedValue.of(text).type(),
+            Matchers.is(TypedValue.Type.LONG)
+        );
+    }
+
+    @ValueSource(strings = {"3.5", "-0.25", "1234567890123456789"})
+    @ParameterizedTest(name = "{index}: \"{0}\" is a fractional number")
+    void shouldInferFractionalNumbers(final String text) {
+        MatcherAssert.assertThat(
+            "Should infer the fractional type",
+            TypedValue.of(text).type(),
+            Matchers.is(TypedValue.Type.DOUBLE)
+        );
+    }
+
+    @ValueSource(strings = {"", "-", "1.", ".5", "1.2.3", "12a", "+1", "abc", "True"})
+    @ParameterizedTest(name = "{index}: \"{0}\" is a string")
+    void shouldInferStrings(final String text) {
+        MatcherAssert.assertThat(
+            "Should infer the string type",
+            TypedValue.of(text).type(),
+            Matchers.is(TypedValue.Type.STRING)
+        );
+    }
+
+    @Test
+    void shouldCompareIntegersWithFractions() {
+        MatcherAssert.assertThat(
+            "Should compare the numbers of different types",
+            TypedValue.of("2").compareTo(TypedValue.of("1.5")),
+            Matchers.greaterThan(0)
+        );
+    }
+
+    @Test
+    void shouldNotCompareStrings() {
+        Assertions
+            .assertThatThrownBy(() -> TypedValue.of("true").compareTo(TypedValue.of("1")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Cannot compare strings");
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.input.ContentsReader;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link DecisionProcessor}.
+ *
+ * @since 0.10.0
+ */
+final class DecisionProcessorTest {
+    /**
+     * The name of the table to decide.
+     */
+    private static final String TIERS = "tiers";
+
+    @Test
+    void shouldPublishOutcomesInOrderOfStates() throws InterruptedException {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final DecisionProcessor processor = DecisionProcessorTest.tables()
+                .processorFor(DecisionProcessorTest.TIERS, pool, 8);
+            final Collector collector = new Collector(Long.MAX_VALUE);
+            processor.subscribe(collector);
+            try (SubmissionPublisher<State> states = new SubmissionPublisher<>()) {
+                states.subscribe(processor);
+                IntStream.range(0, 300).forEach(
+                    total -> states.submit(DecisionProcessorTest.order(total))
+                );
+            }
+            MatcherAssert.assertThat(
+                "All the outcomes should be published",
+                collector.done.await(10, TimeUnit.SECONDS),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "The outcomes should come in the order of the states",
+                collector.outcomes,
+                Matchers.equalTo(
+                    IntStream.range(0, 300)
+                        .mapToObj(DecisionProcessorTest::tier)
+                        .collect(Collectors.toList())
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRequestStatesOnlyWhenOutcomesAreDemanded() {
+        final DecisionProcessor processor = DecisionProcessorTest.tables()
+            .processorFor(DecisionProcessorTest.TIERS, Runnable::run, 2);
+        final Collector collector = new Collector(0);
+        processor.subscribe(collector);
+        final long[] requested = new long[1];
+        processor.onSubscribe(
+            new Flow.Subscription() {
+                @Override
+                public void request(final long count) {
+                    requested[0] += count;
+                }
+
+                @Override
+                public void cancel() {
+                    // Nothing to cancel
+                }
+            }
+        );
+        processor.onNext(DecisionProcessorTest.order(50));
+        processor.onNext(DecisionProcessorTest.order(200));
+        MatcherAssert.assertThat(
+            "The decided states should wait for the demand",
+            List.of(processor.queueDepth(), collector.outcomes.size(), processor.inFlight()),
+            Matchers.contains(2, 0, 0)
+        );
+        collector.subscription.request(1);
+        MatcherAssert.assertThat(
+            "A single outcome should be delivered on demand",
+            collector.outcomes,
+            Matchers.contains("basic")
+        );
+        MatcherAssert.assertThat(
+            "The next state should be requested for the delivered outcome",
+            requested[0],
+            Matchers.is(3L)
+        );
+    }
+
+    @Test
+    void shouldNotQueueOutcomesAfterFailure() {
+        final DecisionProcessor processor = DecisionProcessorTest.tables()
+            .processorFor(DecisionProcessorTest.TIERS, Runnable::run, 2);
+        final Collector collector = new Collector(0);
+        processor.subscribe(collector);
+        processor.onSubscribe(
+            new Flow.Subscription() {
+                @Override
+                public void request(final long count) {
+                    // Nothing to request
+                }
+
+                @Override
+                public void cancel() {
+                    // Nothing to cancel
+                }
+            }
+        );
+        processor.onNext(DecisionProcessorTest.order(50));
+        processor.onNext(new State(List.of()));
+        collector.subscription.request(1);
+        processor.onNext(DecisionProcessorTest.order(600));
+        MatcherAssert.assertThat(
+            "No outcome should wait for the delivery once the processing is failed",
+            List.of(processor.queueDepth(), collector.outcomes.size(), processor.inFlight()),
+            Matchers.contains(0, 1, 0)
+        );
+        MatcherAssert.assertThat(
+            "The subscriber should get the failure",
+            collector.done.getCount(),
+            Matchers.is(0L)
+        );
+    }
+
+    private static DecisionTables tables() {
+        final ContentsReader reader = () -> List.of(
+            new SourceLines(
+                DecisionProcessorTest.TIERS,
+                List.of(
+                    "CND;order::total;<100;!<100;!<500",
+                    "CND;order::total;~;<500;~",
+                    "OUT;outcome;basic;silver;gold"
+                ),
+                ";"
+            )
+        );
+        return DecisionTables.using(reader);
+    }
+
+    private static State order(final int total) {
+        return new State(
+            List.of(new InMemoryLocator("order", Map.of("total", String.valueOf(total))))
+        );
+    }
+
+    private static String tier(final int total) {
+        final String result;
+        if (total < 100) {
+            result = "basic";
+        } else if (total < 500) {
+            result = "silver";
+        } else {
+            result = "gold";
+        }
+        return result;
+    }
+
+    /**
+     * I am the subscriber collecting the published outcomes.
+     *
+     * @since 0.10.0
+     */
+    private static final class Collector implements Flow.Subscriber<DecisionResult> {
+        /**
+         * The collected outcomes.
+         */
+        private final List<String> outcomes;
+
+        /**
+         * The signal of the completed stream.
+         */
+        private final CountDownLatch done;
+
+        /**
+         * The number of outcomes to request right away.
+         */
+        private final long initial;
+
+        /**
+         * The subscription to the outcomes.
+         */
+        private Flow.Subscription subscription;
+
+        Collector(final long initial) {
+            this.outcomes = Collections.synchronizedList(new ArrayList<>(0));
+            this.done = new CountDownLatch(1);
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription received) {
+            this.subscription = received;
+            if (this.initial > 0) {
+                received.request(this.initial);
+            }
+        }
+
+        @Override
+        public void onNext(final DecisionResult item) {
+            this.outcomes.add(item.outcome().get("outcome"));
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.done.countDown();
+        }
+    }
+}
@@ -24,13 +24,29 @@
 
 package ru.ewc.decisions.api;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import ru.ewc.decisions.TestObjects;
+import ru.ewc.decisions.input.CombinedCsvFileReader;
+import ru.ewc.decisions.input.ContentsReader;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.decita.core.value.ValueProvider;
+import ru.ewc.decita.core.value.ValueProviderLocator;
 import ru.ewc.state.State;
 
 /**
@@ -59,6 +75,11 @@ final class EndToEndTest {
      */
     public static final String TRUE = "true";
 
+    /**
+     * Constant for the threshold table name.
+     */
+    public static final String TIERS = "tiers";
+
     @Test
     void shouldComputeTheWholeTable() throws DecitaException {
         final State state = new State(
@@ -100,7 +121,37 @@ final class EndToEndTest {
         MatcherAssert.assertThat(
             "Should have logged all the computations",
             tracker.events().size(),
-            Matchers.is(27)
+            Matchers.is(20)
+        );
+    }
+
+    @Test
+    void shouldComputeChainedTableOncePerContext() {
+        final State state = new State(
+            List.of(
+                locatorDataIsStored("false"),
+                locatorShopsOnMarket(3),
+                locatorCurrentPlayer("Eugene")
+            )
+        );
+        final ComputationContext context = TestObjects.tablesFolderWithState(state);
+        final OutputTracker<String> tracker = context.startTracking();
+        context.decisionFor(EndToEndTest.SAMPLE_TABLE);
+        MatcherAssert.assertThat(
+            "The chained table should be computed only once",
+            tracker.events().stream().filter(e -> e.startsWith("SL: hello-world")).count(),
+            Matchers.is(1L)
+        );
+        MatcherAssert.assertThat(
+            "The reused chained table outcome should be counted",
+            context.cacheHits(),
+            Matchers.greaterThan(0)
+        );
+        context.setValueFor("data", "is-stored", EndToEndTest.TRUE);
+        MatcherAssert.assertThat(
+            "The chained table should be recomputed after the state change",
+            context.decisionFor("hello-world"),
+            Matchers.hasEntry(EndToEndTest.OUT, "hello")
         );
     }
 
@@ -126,6 +177,55 @@ final class EndToEndTest {
         );
     }
 
+    @Test
+    void shouldReuseCompiledTablesInSeveralContexts() {
+        final DecisionTables tables = DecisionTables.using(
+            new CombinedCsvFileReader(TestObjects.tablesFolder(), ".csv", ";")
+        );
+        final ComputationContext available = new ComputationContext(
+            EndToEndTest.ticTacToeState("empty"),
+            tables
+        );
+        final ComputationContext taken = new ComputationContext(
+            EndToEndTest.ticTacToeState("O"),
+            tables
+        );
+        MatcherAssert.assertThat(
+            "Should compute the first context",
+            available.decisionFor("dynamic-coordinate"),
+            Matchers.hasEntry("moveAvailable", EndToEndTest.TRUE)
+        );
+        MatcherAssert.assertThat(
+            "Should not reuse the values computed in another context",
+            taken.decisionFor("dynamic-coordinate"),
+            Matchers.hasEntry("moveAvailable", "false")
+        );
+    }
+
+    @Test
+    void shouldShareCompiledTablesBetweenThreads() throws Exception {
+        final DecisionTables tables = DecisionTables.using(
+            new CombinedCsvFileReader(TestObjects.tablesFolder(), ".csv", ";")
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = executor.invokeAll(
+                IntStream.range(0, 200)
+                    .mapToObj(idx -> EndToEndTest.decisionTask(tables, idx % 2 == 0))
+                    .toList()
+            );
+            for (final Future<Boolean> result : results) {
+                MatcherAssert.assertThat(
+                    "Every thread should get its own decision",
+                    result.get(),
+                    Matchers.is(true)
+                );
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void shouldThrowIfSeveralRulesResolveToTrue() {
         final State state = new State(
@@ -140,6 +240,720 @@ final class EndToEndTest {
             .hasMessageContaining("Multiple rules are satisfied");
     }
 
+    @Test
+    void shouldStopAtFirstSatisfiedRuleIfTableDeclaresIt() {
+        final State state = new State(
+            List.of(
+                new InMemoryLocator("data", Map.of("value", 1))
+            )
+        );
+        final ComputationContext context = TestObjects.tablesFolderWithState(state);
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The first satisfied rule should win",
+            context.decisionFor("first-hit"),
+            Matchers.hasEntry(EndToEndTest.OUT, "hello")
+        );
+        MatcherAssert.assertThat(
+            "The rules after the first satisfied one should not be checked",
+            tracker.events(),
+            Matchers.not(Matchers.hasItem(Matchers.startsWith("RL: first-hit::rule_02")))
+        );
+    }
+
+    @Test
+    void shouldUseHitPolicyOfTheWholeTablesSet() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(new InMemoryLocator("data", Map.of("value", 1)))),
+            DecisionTables.using(EndToEndTest.multipleRulesReader(), HitPolicy.FIRST)
+        );
+        MatcherAssert.assertThat(
+            "The first satisfied rule should win",
+            context.decisionFor("multiple-rules"),
+            Matchers.hasEntry(EndToEndTest.OUT, "hello")
+        );
+    }
+
+    @Test
+    void shouldRejectNotProvenUniqueRulesWhileLoading() {
+        Assertions
+            .assertThatThrownBy(
+                () -> DecisionTables.using(
+                    EndToEndTest.multipleRulesReader(),
+                    HitPolicy.UNIQUE_VERIFIED
+                )
+            )
+            .isInstanceOf(DecitaException.class)
+            .hasMessageContaining("not proven to be mutually exclusive");
+    }
+
+    @Test
+    void shouldAcceptProvenUniqueRulesWhileLoading() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(locatorDataIsStored("false"))),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "hello-world",
+                        List.of(
+                            "CND;data::is-stored;constant::true;constant::false",
+                            "OUT;outcome;hello;world"
+                        ),
+                        ";"
+                    )
+                ),
+                HitPolicy.UNIQUE_VERIFIED
+            )
+        );
+        MatcherAssert.assertThat(
+            "The proven unique table should be computed",
+            context.decisionFor("hello-world"),
+            Matchers.hasEntry(EndToEndTest.OUT, "world")
+        );
+    }
+
+    @Test
+    void shouldCheckOnlyRulesExpectingTheActualValue() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(locatorShopsOnMarket(2))),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "shops",
+                        List.of(
+                            "CND;market::shop;1;2;3;4",
+                            "OUT;outcome;one;two;three;four"
+                        ),
+                        ";"
+                    )
+                ),
+                HitPolicy.UNIQUE,
+                EvaluationMode.INDEXED
+            )
+        );
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The indexed table should be computed correctly",
+            context.decisionFor("shops"),
+            Matchers.hasEntry(EndToEndTest.OUT, "two")
+        );
+        MatcherAssert.assertThat(
+            "Only the rule expecting the actual value should be checked",
+            tracker.events().stream().filter(e -> e.startsWith("RL: ")).toList(),
+            Matchers.contains("RL: shops::rule_02 => true")
+        );
+    }
+
+    @Test
+    void shouldComputeSameOutcomesInAllEvaluationModes() {
+        final List<DecisionTables> modes = Stream.of(EvaluationMode.values())
+            .map(mode -> DecisionTables.using(EndToEndTest.matrixReader(), HitPolicy.FIRST, mode))
+            .toList();
+        for (final String first : List.of("0", "1", "1.0", "5", "7")) {
+            for (final String second : List.of("x", "y", "z")) {
+                final List<Map<String, String>> outcomes = modes.stream()
+                    .map(
+                        tables -> new ComputationContext(
+                            new State(
+                                List.of(
+                                    new InMemoryLocator(
+                                        "data",
+                                        Map.of("first", first, "second", second)
+                                    )
+                                )
+                            ),
+                            tables
+                        ).decisionFor("matrix")
+                    )
+                    .toList();
+                MatcherAssert.assertThat(
+                    "All the modes should lead to the same outcome for %s and %s"
+                        .formatted(first, second),
+                    outcomes,
+                    Matchers.everyItem(Matchers.equalTo(outcomes.get(0)))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldEvaluateSharedConditionOnceInBitsetMode() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(locatorDataIsStored("false"), locatorShopsOnMarket(2))),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "shared",
+                        List.of(
+                            "CND;data::is-stored;true;true;false",
+                            "CND;market::shop;1;2;~",
+                            "OUT;outcome;one;two;three"
+                        ),
+                        ";"
+                    )
+                ),
+                HitPolicy.UNIQUE,
+                EvaluationMode.BITSET
+            )
+        );
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The table should be computed correctly",
+            context.decisionFor("shared"),
+            Matchers.hasEntry(EndToEndTest.OUT, "three")
+        );
+        MatcherAssert.assertThat(
+            "The shared condition should be evaluated once",
+            tracker.events().stream()
+                .filter(e -> e.startsWith("CN: data::is-stored = constant::true"))
+                .count(),
+            Matchers.is(1L)
+        );
+    }
+
+    @Test
+    void shouldFindThresholdRuleByInterval() {
+        final DecisionTables indexed = DecisionTables.using(
+            EndToEndTest.tiersReader(), HitPolicy.UNIQUE, EvaluationMode.INDEXED
+        );
+        final DecisionTables linear = DecisionTables.using(
+            EndToEndTest.tiersReader(), HitPolicy.UNIQUE, EvaluationMode.LINEAR
+        );
+        for (final String total : List.of("50", "100", "100.0", "499", "500", "700")) {
+            MatcherAssert.assertThat(
+                "The interval index should find the same rule as the linear scan for %s"
+                    .formatted(total),
+                EndToEndTest.orderContext(total, indexed).decisionFor(EndToEndTest.TIERS),
+                Matchers.equalTo(
+                    EndToEndTest.orderContext(total, linear).decisionFor(EndToEndTest.TIERS)
+                )
+            );
+        }
+        final ComputationContext context = EndToEndTest.orderContext("700", indexed);
+        final OutputTracker<String> tracker = context.startTracking();
+        context.decisionFor(EndToEndTest.TIERS);
+        MatcherAssert.assertThat(
+            "Only the rule of the value's interval should be checked",
+            tracker.events().stream().filter(e -> e.startsWith("RL: ")).toList(),
+            Matchers.contains("RL: tiers::rule_03 => true")
+        );
+    }
+
+    @Test
+    void shouldComputeOnlyRequestedOutcomeField() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(locatorDataIsStored("false"))),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "lazy",
+                        List.of(
+                            "CND;data::is-stored;false",
+                            "OUT;outcome;cheap",
+                            "OUT;extra;heavy::outcome"
+                        ),
+                        ";"
+                    ),
+                    new SourceLines(
+                        "heavy",
+                        List.of("CND;data::is-stored;false", "OUT;outcome;expensive"),
+                        ";"
+                    )
+                )
+            )
+        );
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The requested field should be computed",
+            context.valueFor("lazy", EndToEndTest.OUT),
+            Matchers.is("cheap")
+        );
+        MatcherAssert.assertThat(
+            "The chained table of the unused field should not be computed",
+            tracker.events(),
+            Matchers.not(Matchers.hasItem(Matchers.startsWith("SL: heavy")))
+        );
+        MatcherAssert.assertThat(
+            "The whole outcome should still be available",
+            context.decisionFor("lazy"),
+            Matchers.hasEntry("extra", "expensive")
+        );
+        MatcherAssert.assertThat(
+            "The whole outcome should be reported",
+            tracker.events(),
+            Matchers.hasItem(
+                Matchers.allOf(
+                    Matchers.startsWith("TB: lazy => "),
+                    Matchers.containsString("extra=expensive")
+                )
+            )
+        );
+    }
+
+    @Test
+    void shouldEvaluateIndependentTablesInParallel() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final DecisionTables sequential = DecisionTables.using(EndToEndTest.fanOutReader());
+            final ComputationContext context = new ComputationContext(
+                new State(List.of(locatorDataIsStored(EndToEndTest.TRUE))),
+                sequential.inParallelOn(pool)
+            );
+            final OutputTracker<String> tracker = context.startTracking();
+            MatcherAssert.assertThat(
+                "The parallel evaluation should make the same decision",
+                context.decisionFor("top"),
+                Matchers.equalTo(
+                    new ComputationContext(
+                        new State(List.of(locatorDataIsStored(EndToEndTest.TRUE))),
+                        sequential
+                    ).decisionFor("top")
+                )
+            );
+            MatcherAssert.assertThat(
+                "Every dependency should be evaluated only once",
+                tracker.events().stream().filter(e -> e.startsWith("SL: ")).toList(),
+                Matchers.containsInAnyOrder(
+                    "SL: left => left::rule_01",
+                    "SL: right => right::rule_01",
+                    "SL: top => top::rule_01"
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldFailOnlyWhenFailedDependencyIsRead() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final ComputationContext context = new ComputationContext(
+                new State(List.of(locatorDataIsStored(EndToEndTest.TRUE))),
+                DecisionTables.using(EndToEndTest.guardedReader()).inParallelOn(pool)
+            );
+            MatcherAssert.assertThat(
+                "The failed dependency should not fail the decision not reading it",
+                context.decisionFor("guarded"),
+                Matchers.hasEntry(EndToEndTest.OUT, "left")
+            );
+            Assertions.assertThatThrownBy(() -> context.decisionFor("broken"))
+                .isInstanceOf(DecitaException.class)
+                .hasMessageContaining("Multiple rules are satisfied");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDecideTableForManyStates() {
+        final DecisionTables tables = DecisionTables.using(EndToEndTest.tiersReader());
+        final List<State> states = IntStream.range(0, 3000)
+            .mapToObj(
+                idx -> new State(
+                    List.of(
+                        new InMemoryLocator("order", Map.of("total", String.valueOf(idx % 700)))
+                    )
+                )
+            )
+            .toList();
+        final Map<State, String> outcomes = new ConcurrentHashMap<>();
+        tables.decideAll(
+            EndToEndTest.TIERS,
+            states,
+            (state, outcome) -> outcomes.put(state, outcome.get(EndToEndTest.OUT))
+        );
+        MatcherAssert.assertThat(
+            "Every state should be decided",
+            outcomes.size(),
+            Matchers.is(states.size())
+        );
+        for (final State state : states) {
+            MatcherAssert.assertThat(
+                "The batch should make the same decision as a single context",
+                outcomes.get(state),
+                Matchers.is(
+                    new ComputationContext(state, tables).decisionFor(EndToEndTest.TIERS)
+                        .get(EndToEndTest.OUT)
+                )
+            );
+        }
+    }
+
+    @Test
+    void shouldDecideTableOverNumericColumns() {
+        final DecisionTables tables = DecisionTables.using(EndToEndTest.tiersReader());
+        final double[] totals = IntStream.range(0, 1000).mapToDouble(idx -> idx * 0.75).toArray();
+        final List<Map<String, String>> outcomes = tables.decideColumns(
+            EndToEndTest.TIERS,
+            Map.of("order::total", totals)
+        );
+        for (int idx = 0; idx < totals.length; idx += 1) {
+            MatcherAssert.assertThat(
+                "The columnar decision should match the single one for %s".formatted(totals[idx]),
+                outcomes.get(idx),
+                Matchers.equalTo(
+                    EndToEndTest.orderContext(String.valueOf(totals[idx]), tables)
+                        .decisionFor(EndToEndTest.TIERS)
+                )
+            );
+        }
+    }
+
+    @Test
+    void shouldRejectColumnarDecisionOfOutcomesReadingState() {
+        final ContentsReader reader = () -> List.of(
+            new SourceLines(
+                "labels",
+                List.of("CND;order::total;<100;!<100", "OUT;label;order::name;big"),
+                ";"
+            )
+        );
+        Assertions
+            .assertThatThrownBy(
+                () -> DecisionTables.using(reader)
+                    .decideColumns("labels", Map.of("order::total", new double[] {50, 150}))
+            )
+            .isInstanceOf(DecitaException.class)
+            .hasMessageContaining("Outcomes read the state");
+    }
+
+    @Test
+    void shouldApplyHitPolicyToColumnarDecision() {
+        final Map<String, double[]> columns = Map.of("data::value", new double[] {2, 1, 3});
+        Assertions
+            .assertThatThrownBy(
+                () -> DecisionTables.using(EndToEndTest.multipleRulesReader())
+                    .decideColumns("multiple-rules", columns)
+            )
+            .isInstanceOf(DecitaException.class)
+            .hasMessageContaining("Multiple rules are satisfied");
+        MatcherAssert.assertThat(
+            "The first satisfied rule should win for every record",
+            DecisionTables.using(EndToEndTest.multipleRulesReader(), HitPolicy.FIRST)
+                .decideColumns("multiple-rules", columns)
+                .stream()
+                .map(outcome -> outcome.get(EndToEndTest.OUT))
+                .toList(),
+            Matchers.contains("world", "hello", "world")
+        );
+    }
+
+    @Test
+    void shouldPrefetchStateValuesReadByTable() {
+        final DecisionTables tables = DecisionTables.using(
+            new CombinedCsvFileReader(TestObjects.tablesFolder(), ".csv", ";")
+        );
+        MatcherAssert.assertThat(
+            "The static reads of the table should be known in advance",
+            tables.readsOf("dynamic-coordinate"),
+            Matchers.containsInAnyOrder("request::move", "game::currentPlayer", "request::player")
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            final ComputationContext context = new ComputationContext(
+                EndToEndTest.ticTacToeState("empty"), tables
+            ).prefetch("dynamic-coordinate", pool);
+            MatcherAssert.assertThat(
+                "The prefetched context should make the same decision",
+                context.decisionFor("dynamic-coordinate"),
+                Matchers.hasEntry("moveAvailable", EndToEndTest.TRUE)
+            );
+            MatcherAssert.assertThat(
+                "The prefetched values should be served from the cache",
+                context.cacheHits(),
+                Matchers.greaterThanOrEqualTo(3)
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDecideAsynchronouslyOnceValuesAreRead() {
+        final PendingLocator order = new PendingLocator("order");
+        final CompletableFuture<Map<String, String>> decision = new ComputationContext(
+            new State(List.of(order)),
+            DecisionTables.using(EndToEndTest.tiersReader())
+        ).decisionForAsync(EndToEndTest.TIERS);
+        MatcherAssert.assertThat(
+            "The decision should wait for the value without blocking the caller",
+            decision.isDone(),
+            Matchers.is(false)
+        );
+        order.complete("250");
+        MatcherAssert.assertThat(
+            "The decision should be made once the value is read",
+            decision.join(),
+            Matchers.hasEntry("outcome", "silver")
+        );
+        MatcherAssert.assertThat(
+            "The value should be requested only once",
+            order.requests(),
+            Matchers.is(1)
+        );
+    }
+
+    @Test
+    void shouldRecomputeOnlyTablesDependingOnChangedValue() {
+        final ContentsReader reader = () -> List.of(
+            EndToEndTest.tiersReader().readAll().get(0),
+            new SourceLines(
+                "discount",
+                List.of("CND;tiers::outcome;gold;!gold", "OUT;percent;10;0"),
+                ";"
+            ),
+            new SourceLines(
+                "delivery",
+                List.of("CND;order::express;true;!true", "OUT;days;1;5"),
+                ";"
+            )
+        );
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new InMemoryLocator("order", Map.of("total", "50", "express", "false"))
+                )
+            ),
+            DecisionTables.using(reader)
+        );
+        context.decisionFor("discount");
+        context.decisionFor("delivery");
+        context.setValueFor("order", "express", EndToEndTest.TRUE);
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The table not reading the changed value should keep its outcome",
+            context.decisionFor("discount"),
+            Matchers.hasEntry("percent", "0")
+        );
+        MatcherAssert.assertThat(
+            "The table not reading the changed value should not be recomputed",
+            tracker.events(),
+            Matchers.contains("TB: discount => {percent=0}")
+        );
+        MatcherAssert.assertThat(
+            "The table reading the changed value should be recomputed",
+            context.decisionFor("delivery"),
+            Matchers.hasEntry("days", "1")
+        );
+        context.setValueFor("order", "total", "700");
+        MatcherAssert.assertThat(
+            "The table chained to the table reading the changed value should be recomputed",
+            context.decisionFor("discount"),
+            Matchers.hasEntry("percent", "10")
+        );
+    }
+
+    @Test
+    void shouldRecomputeTablesReadingValueDerivedFromChangedOne() {
+        final ContentsReader reader = () -> List.of(
+            new SourceLines(
+                "greeting",
+                List.of("CND;customer::level;gold;!gold", "OUT;text;welcome back;hello"),
+                ";"
+            ),
+            new SourceLines(
+                "delivery",
+                List.of("CND;order::express;true;!true", "OUT;days;1;5"),
+                ";"
+            )
+        );
+        final ValueProvider<Object> level = context -> {
+            final String result;
+            if (Integer.parseInt(context.valueFor("account", "points")) > 100) {
+                result = "gold";
+            } else {
+                result = "basic";
+            }
+            return result;
+        };
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new InMemoryLocator("account", Map.of("points", "10")),
+                    new InMemoryLocator("order", Map.of("express", "false")),
+                    new ValueProviderLocator("customer", Map.of("level", level))
+                )
+            ),
+            DecisionTables.using(reader)
+        );
+        context.decisionFor("greeting");
+        context.decisionFor("delivery");
+        context.setValueFor("account", "points", "500");
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The table reading the derived value should be recomputed",
+            context.decisionFor("greeting"),
+            Matchers.hasEntry("text", "welcome back")
+        );
+        context.decisionFor("delivery");
+        MatcherAssert.assertThat(
+            "Only the table reading the derived value should be recomputed",
+            tracker.events().stream().filter(event -> event.startsWith("SL")).toList(),
+            Matchers.contains(Matchers.startsWith("SL: greeting"))
+        );
+    }
+
+    @Test
+    void shouldNotifyWatchersAboutChangedOutcomes() {
+        final ContentsReader reader = () -> List.of(
+            EndToEndTest.tiersReader().readAll().get(0),
+            new SourceLines(
+                "delivery",
+                List.of("CND;order::express;true;!true", "OUT;days;1;5"),
+                ";"
+            ),
+            new SourceLines(
+                "checkout",
+                List.of(
+                    "CND;order::express;false",
+                    "OUT;outcome;done",
+                    "ASG;order::express;true",
+                    "ASG;order::total;700"
+                ),
+                ";"
+            )
+        );
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(
+                    new InMemoryLocator("order", Map.of("total", "50", "express", "false"))
+                )
+            ),
+            DecisionTables.using(reader)
+        );
+        final List<Map<String, String>> tiers = new ArrayList<>(1);
+        final List<Map<String, String>> days = new ArrayList<>(1);
+        context.watch(EndToEndTest.TIERS, tiers::add).watch("delivery", days::add);
+        context.perform("checkout");
+        MatcherAssert.assertThat(
+            "The command should be reported once, with the changed fields only",
+            List.of(tiers, days),
+            Matchers.contains(
+                List.of(Map.of("outcome", "gold")),
+                List.of(Map.of("days", "1"))
+            )
+        );
+        context.setValueFor("order", "express", "false");
+        MatcherAssert.assertThat(
+            "Only the watchers of the affected tables should be notified",
+            List.of(tiers.size(), days.size(), days.get(1).get("days")),
+            Matchers.contains(1, 2, "5")
+        );
+    }
+
+    @Test
+    void shouldWriteCommandValuesOnlyWhenWholeCommandSucceeds() {
+        final ContentsReader reader = () -> List.of(
+            EndToEndTest.tiersReader().readAll().get(0),
+            new SourceLines(
+                "upgrade",
+                List.of(
+                    "CND;order::total;~",
+                    "OUT;outcome;done",
+                    "ASG;order::total;700",
+                    "ASG;order::copy;order::total"
+                ),
+                ";"
+            ),
+            new SourceLines(
+                "broken",
+                List.of(
+                    "CND;order::total;~",
+                    "OUT;outcome;done",
+                    "ASG;order::total;10",
+                    "ASG;missing::value;1"
+                ),
+                ";"
+            )
+        );
+        final InMemoryLocator order = new InMemoryLocator("order", Map.of("total", "50"));
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(order)),
+            DecisionTables.using(reader)
+        );
+        context.perform("upgrade");
+        MatcherAssert.assertThat(
+            "The command should read its own writes and write them all to the state",
+            order.state(),
+            Matchers.allOf(Matchers.hasEntry("total", "700"), Matchers.hasEntry("copy", "700"))
+        );
+        Assertions.assertThatThrownBy(() -> context.perform("broken"))
+            .isInstanceOf(DecitaException.class);
+        MatcherAssert.assertThat(
+            "The failed command should leave the state intact",
+            order.state(),
+            Matchers.hasEntry("total", "700")
+        );
+        MatcherAssert.assertThat(
+            "The failed command's values should not be seen by the context",
+            context.decisionFor(EndToEndTest.TIERS),
+            Matchers.hasEntry("outcome", "gold")
+        );
+    }
+
+    @Test
+    void shouldProveOrderedRulesExclusiveAndComplete() {
+        MatcherAssert.assertThat(
+            "Rules over adjacent ranges should be proven to cover all the numbers",
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "ranges",
+                        List.of(
+                            "CND;data::value;<0;!<0;!<0",
+                            "CND;data::value;~;<10;!<10",
+                            "OUT;outcome;negative;small;large"
+                        ),
+                        ";"
+                    )
+                )
+            ).analysis(),
+            Matchers.hasEntry(
+                "ranges",
+                "mutually exclusive rules: proven, reachable else rule: refuted"
+            )
+        );
+    }
+
+    @Test
+    void shouldCheckRulesOverlappingOnNumberWrittenDifferently() {
+        final ComputationContext context = new ComputationContext(
+            new State(List.of(new InMemoryLocator("data", Map.of("value", "1.0")))),
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "aliases",
+                        List.of(
+                            "CND;data::value;!1;!>1",
+                            "CND;data::value;~;!<1",
+                            "OUT;outcome;not-one;one"
+                        ),
+                        ";"
+                    )
+                )
+            )
+        );
+        Assertions
+            .assertThatThrownBy(() -> context.decisionFor("aliases"))
+            .isInstanceOf(DecitaException.class)
+            .hasMessageContaining("Multiple rules are satisfied");
+    }
+
+    @Test
+    void shouldReportOverlappingRulesWhileLoading() {
+        MatcherAssert.assertThat(
+            "Rules satisfied by the same value should be reported",
+            DecisionTables.using(EndToEndTest.multipleRulesReader(), HitPolicy.FIRST)
+                .analysis(),
+            Matchers.hasEntry(
+                "multiple-rules",
+                "mutually exclusive rules: refuted ('multiple-rules::rule_01' and"
+                    + " 'multiple-rules::rule_02'), reachable else rule: refuted"
+            )
+        );
+    }
+
     @Test
     void shouldPerformCommandFromTable() {
         final State state = new State(
@@ -183,6 +997,131 @@ final class EndToEndTest {
         );
     }
 
+    private static ContentsReader tiersReader() {
+        return () -> List.of(
+            new SourceLines(
+                EndToEndTest.TIERS,
+                List.of(
+                    "CND;order::total;<100;!<100;!<500",
+                    "CND;order::total;~;<500;~",
+                    "OUT;outcome;basic;silver;gold"
+                ),
+                ";"
+            )
+        );
+    }
+
+    private static ComputationContext orderContext(
+        final String total,
+        final DecisionTables tables
+    ) {
+        return new ComputationContext(
+            new State(List.of(new InMemoryLocator("order", Map.of("total", total)))),
+            tables
+        );
+    }
+
+    private static ContentsReader matrixReader() {
+        return () -> List.of(
+            new SourceLines(
+                "matrix",
+                List.of(
+                    "CND;data::first;1;1;~;>5;!1",
+                    "CND;data::second;x;~;y;~;!x",
+                    "OUT;outcome;one;two;three;four;five"
+                ),
+                ";"
+            )
+        );
+    }
+
+    private static ContentsReader fanOutReader() {
+        return () -> List.of(
+            new SourceLines(
+                "top",
+                List.of("CND;left::outcome;yes", "CND;right::outcome;no", "OUT;outcome;both"),
+                ";"
+            ),
+            new SourceLines(
+                "left",
+                List.of("CND;data::is-stored;true", "OUT;outcome;yes"),
+                ";"
+            ),
+            new SourceLines(
+                "right",
+                List.of("CND;data::is-stored;true", "OUT;outcome;no"),
+                ";"
+            )
+        );
+    }
+
+    private static ContentsReader guardedReader() {
+        return () -> List.of(
+            new SourceLines(
+                "guarded",
+                List.of(
+                    "HIT;first",
+                    "CND;left::outcome;yes;~",
+                    "CND;broken::outcome;~;yes",
+                    "OUT;outcome;left;broken"
+                ),
+                ";"
+            ),
+            new SourceLines(
+                "left",
+                List.of("CND;data::is-stored;true", "OUT;outcome;yes"),
+                ";"
+            ),
+            new SourceLines(
+                "broken",
+                List.of("CND;data::is-stored;true;~", "OUT;outcome;one;another"),
+                ";"
+            )
+        );
+    }
+
+    private static ContentsReader multipleRulesReader() {
+        return () -> List.of(
+            new SourceLines(
+                "multiple-rules",
+                List.of("CND;data::value;1;~", "OUT;outcome;hello;world"),
+                ";"
+            )
+        );
+    }
+
+    private static Callable<Boolean> decisionTask(
+        final DecisionTables tables,
+        final boolean available
+    ) {
+        return () -> {
+            final String expected;
+            final String cell;
+            if (available) {
+                expected = EndToEndTest.TRUE;
+                cell = "empty";
+            } else {
+                expected = "false";
+                cell = "X";
+            }
+            return expected.equals(
+                new ComputationContext(EndToEndTest.ticTacToeState(cell), tables)
+                    .decisionFor("dynamic-coordinate")
+                    .get("moveAvailable")
+            );
+        };
+    }
+
+    private static State ticTacToeState(final String cell) {
+        return new State(
+            List.of(
+                new InMemoryLocator("cells", Map.of("A1", cell)),
+                new InMemoryLocator("request", Map.of("move", "A1", "player", "X")),
+                new InMemoryLocator("game", Map.of("currentPlayer", "X"))
+            )
+        );
+    }
+
     private static InMemoryLocator locatorShopsInRequest(final int shops) {
         return new InMemoryLocator("request", Map.of(EndToEndTest.SHOP, shops));
     }
@@ -198,4 +1137,59 @@ final class EndToEndTest {
     private static InMemoryLocator locatorDataIsStored(final String value) {
         return new InMemoryLocator("data", Map.of("is-stored", value));
     }
+
+    /**
+     * I am the {@link AsyncLocator} that provides its values only when told to.
+     *
+     * @since 0.10.0
+     */
+    private static final class PendingLocator implements AsyncLocator {
+        /**
+         * The name of this locator.
+         */
+        private final String name;
+
+        /**
+         * The future value of every fragment.
+         */
+        private final CompletableFuture<String> value;
+
+        /**
+         * The number of requested values.
+         */
+        private final AtomicInteger requested;
+
+        PendingLocator(final String name) {
+            this.name = name;
+            this.value = new CompletableFuture<>();
+            this.requested = new AtomicInteger();
+        }
+
+        @Override
+        public CompletableFuture<String> fragmentAsync(
+            final String fragment,
+            final ComputationContext context
+        ) {
+            this.requested.incrementAndGet();
+            return this.value;
+        }
+
+        @Override
+        public void setFragmentValue(final String fragment, final String ignored) {
+            throw new DecitaException("The locator is read-only");
+        }
+
+        @Override
+        public String locatorName() {
+            return this.name;
+        }
+
+        void complete(final String result) {
+            this.value.complete(result);
+        }
+
+        int requests() {
+            return this.requested.get();
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ru.ewc.decisions.input.ContentsReader;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * Equivalence tests of all the {@link EvaluationMode}s against the linear interpreter.
+ *
+ * @since 0.10.0
+ */
+final class EvaluationModeTest {
+    /**
+     * The values of the first coordinate to check.
+     */
+    private static final List<String> FIRST = List.of("0", "1", "1.0", "5", "5.5", "7", "abc");
+
+    /**
+     * The values of the second coordinate to check.
+     */
+    private static final List<String> SECOND = List.of("x", "y", "z", "10");
+
+    @ValueSource(strings = {"LINEAR", "INDEXED", "TREE", "BITSET", "COMPILED"})
+    @ParameterizedTest(name = "{index}: {0} mode is equivalent to the linear one")
+    void shouldComputeSameOutcomesAsLinearScan(final String mode) {
+        final DecisionTables linear = DecisionTables.using(
+            EvaluationModeTest.tables(), HitPolicy.FIRST, EvaluationMode.LINEAR
+        );
+        final DecisionTables target = DecisionTables.using(
+            EvaluationModeTest.tables(), HitPolicy.FIRST, EvaluationMode.valueOf(mode)
+        );
+        for (final String table : target.tableNames()) {
+            for (final String first : EvaluationModeTest.FIRST) {
+                for (final String second : EvaluationModeTest.SECOND) {
+                    MatcherAssert.assertThat(
+                        "Table %s should have the same outcome for %s and %s"
+                            .formatted(table, first, second),
+                        EvaluationModeTest.outcome(target, table, first, second),
+                        Matchers.equalTo(EvaluationModeTest.outcome(linear, table, first, second))
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldReportSameConditionsAsLinearScanWhenCompiled() {
+        MatcherAssert.assertThat(
+            "Compiled mode should memoize and report every checked condition as the linear one",
+            EvaluationModeTest.conditionEvents(EvaluationMode.COMPILED),
+            Matchers.equalTo(EvaluationModeTest.conditionEvents(EvaluationMode.LINEAR))
+        );
+    }
+
+    private static List<String> conditionEvents(final EvaluationMode mode) {
+        final ComputationContext context = new ComputationContext(
+            new State(
+                List.of(new InMemoryLocator("data", Map.of("first", "7", "second", "x")))
+            ),
+            DecisionTables.using(EvaluationModeTest.tables(), HitPolicy.FIRST, mode)
+        );
+        final OutputTracker<String> tracker = context.startTracking();
+        context.decisionFor("matrix");
+        context.decisionFor("tiers");
+        return tracker.events().stream().filter(event -> event.startsWith("CN")).toList();
+    }
+
+    private static String outcome(
+        final DecisionTables tables,
+        final String table,
+        final String first,
+        final String second
+    ) {
+        String result;
+        try {
+            result = new ComputationContext(
+                new State(
+                    List.of(
+                        new InMemoryLocator("data", Map.of("first", first, "second", second))
+                    )
+                ),
+                tables
+            ).decisionFor(table).toString();
+        } catch (final IllegalArgumentException | DecitaException ex) {
+            result = ex.getMessage();
+        }
+        return result;
+    }
+
+    private static ContentsReader tables() {
+        final List<SourceLines> result = new ArrayList<>();
+        result.add(
+            EvaluationModeTest.table(
+                "matrix",
+                "CND;data::first;1;1;~;>5;!1",
+                "CND;data::second;x;~;y;~;!x",
+                "OUT;outcome;one;two;three;four;five"
+            )
+        );
+        result.add(
+            EvaluationModeTest.table(
+                "tiers",
+                "CND;data::first;<1;!<1;!<5",
+                "CND;data::first;~;<5;~",
+                "OUT;outcome;low;middle;high"
+            )
+        );
+        result.add(
+            EvaluationModeTest.table(
+                "equality",
+                "CND;data::second;x;y;z;x",
+                "CND;data::first;~;~;1;0",
+                "OUT;outcome;one;two;three;four"
+            )
+        );
+        result.add(
+            EvaluationModeTest.table(
+                "mixed",
+                "CND;data::first;>abc;~;!data::second",
+                "CND;data::second;~;10;~",
+                "OUT;outcome;one;two;three"
+            )
+        );
+        return () -> result;
+    }
+
+    private static SourceLines table(final String name, final String... lines) {
+        return new SourceLines(name, List.of(lines), ";");
+    }
+}
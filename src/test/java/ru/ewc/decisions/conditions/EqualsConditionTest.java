@@ -56,6 +56,27 @@ final class EqualsConditionTest {
         );
     }
 
+    @Test
+    void testEvaluatingOncePerContext() throws DecitaException {
+        final Condition target = new EqualsCondition(
+            Coordinate.from("always_true::outcome"),
+            Coordinate.from("Hello")
+        );
+        final ComputationContext context = TestObjects.defaultContext();
+        target.evaluate(context);
+        final OutputTracker<String> tracker = context.startTracking();
+        MatcherAssert.assertThat(
+            "The condition keeps its result in the context",
+            target.evaluate(context),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Should not compute the condition twice in the same context",
+            tracker.events(),
+            Matchers.empty()
+        );
+    }
+
     @Test
     void testNotComputedCondition() {
         final Condition target = new EqualsCondition(
@@ -23,6 +23,7 @@
  */
 package ru.ewc.decisions.conditions;
 
+import java.lang.invoke.MethodHandle;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import ru.ewc.decisions.api.ComputationContext;
 import ru.ewc.decisions.api.OutputTracker;
 import ru.ewc.decisions.commands.Assignment;
 import ru.ewc.decisions.core.Coordinate;
+import ru.ewc.decisions.core.TypedValue;
 
 /**
  * Unit tests for {@link NotCondition}.
@@ -55,6 +57,48 @@ final class NotConditionTest {
         );
     }
 
+    @Test
+    void shouldInvertComparisonOfSubject() {
+        final SubjectComparison comparison = Condition
+            .from(Coordinate.from("order::total"), "!<100")
+            .subject()
+            .orElseThrow();
+        MatcherAssert.assertThat(
+            "The negated comparison should keep the subject and the boundary",
+            comparison.coordinate().asString() + " " + comparison.boundary(),
+            Matchers.is("order::total 100")
+        );
+        MatcherAssert.assertThat(
+            "The negated comparison should admit the values its base does not",
+            comparison.admits(TypedValue.of("150")) && !comparison.admits(TypedValue.of("50")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void shouldCompileInvertedComparisonOfSubject() throws Throwable {
+        final MethodHandle compiled = Condition
+            .from(Coordinate.from("order::total"), "!<100")
+            .subject()
+            .orElseThrow()
+            .compiled();
+        MatcherAssert.assertThat(
+            "The compiled comparison should behave as the negated condition",
+            (boolean) compiled.invokeExact(TypedValue.of("150"))
+                && !(boolean) compiled.invokeExact(TypedValue.of("50")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void shouldNotCompareTwoStateValuesAsSubject() {
+        MatcherAssert.assertThat(
+            "A condition over two state values should not have a subject",
+            Condition.from(Coordinate.from("order::total"), "!<order::limit").subject().isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
     @Test
     void testNotUndefined() {
         final ComputationContext context = TestObjects.ticTacToeContext();
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decisions.conditions;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.core.TypedValue;
+
+/**
+ * Tests for the {@link Operator}.
+ *
+ * @since 0.10.0
+ */
+final class OperatorTest {
+    @Test
+    void comparesNumbersByValue() {
+        MatcherAssert.assertThat(
+            "Should compare the numbers numerically, not textually",
+            Operator.GREATER.test(TypedValue.of("10"), TypedValue.of("9.5")),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Should not treat the equal numbers as less",
+            Operator.LESS.test(TypedValue.of("3"), TypedValue.of("3")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void comparesEqualityByText() {
+        MatcherAssert.assertThat(
+            "Should compare the values textually",
+            Operator.EQUALS.test(TypedValue.of("1.0"), TypedValue.of("1")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void compilesTheSameComparison() throws Throwable {
+        MatcherAssert.assertThat(
+            "Should compile the comparison with the constant on the right",
+            (boolean) Operator.LESS.compiled(TypedValue.of("5")).invokeExact(TypedValue.of("4")),
+            Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025 Eugene Terekhov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package ru.ewc.decita.core.value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.ewc.decisions.api.ComputationContext;
+import ru.ewc.decisions.api.DecisionTables;
+import ru.ewc.decisions.api.InMemoryLocator;
+import ru.ewc.decisions.input.SourceLines;
+import ru.ewc.state.State;
+
+/**
+ * Tests for {@link RemoteDataValueProvider} and {@link ObjectPathValueProvider}.
+ *
+ * @since 0.10.0
+ */
+final class RemoteDataValueProviderTest {
+    @Test
+    void fetchesTheObjectOncePerContext() {
+        final FakeUsers users = new FakeUsers();
+        final ValueProvider<Map<String, Object>> user = users.byId("42");
+        final ValueProvider<Object> age = new ObjectPathValueProvider(user, "age");
+        final ValueProvider<Object> city = new ObjectPathValueProvider(user, "address.city");
+        final ComputationContext context = RemoteDataValueProviderTest.context();
+        Assertions.assertThat(age.valueFrom(context)).isEqualTo(37);
+        Assertions.assertThat(city.valueFrom(context)).isEqualTo("Yerevan");
+        Assertions.assertThat(users.calls.get()).isEqualTo(1);
+        age.valueFrom(RemoteDataValueProviderTest.context());
+        Assertions.assertThat(users.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void providesMissingFieldAsUndefined() {
+        final ValueProvider<Object> missing = new ObjectPathValueProvider(
+            new FakeUsers().byId("42"), "address.street"
+        );
+        Assertions.assertThat(missing.valueFrom(RemoteDataValueProviderTest.context()))
+            .isEqualTo("undefined");
+    }
+
+    @Test
+    void servesTableConditionsFromTheSameObject() {
+        final FakeUsers users = new FakeUsers();
+        final ValueProvider<Map<String, Object>> user = users.byId("42");
+        final ComputationContext context = RemoteDataValueProviderTest.context(
+            new State(
+                List.of(
+                    new ValueProviderLocator(
+                        "user",
+                        Map.of(
+                            "age", new ObjectPathValueProvider(user, "age"),
+                            "city", new ObjectPathValueProvider(user, "address.city")
+                        )
+                    )
+                )
+            )
+        );
+        Assertions.assertThat(context.decisionFor("adult-citizen"))
+            .containsEntry("outcome", "true");
+        Assertions.assertThat(users.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchesAnotherObjectWhenItsKeyChanges() {
+        final FakeUsers users = new FakeUsers();
+        final ValueProvider<Map<String, Object>> user = new RemoteDataValueProvider<>(
+            "users", users, context -> context.valueFor("request", "id")
+        );
+        final ComputationContext context = RemoteDataValueProviderTest.context(
+            new State(
+                List.of(
+                    new InMemoryLocator("request", Map.of("id", "7")),
+                    new ValueProviderLocator(
+                        "user",
+                        Map.of(
+                            "age", new ObjectPathValueProvider(user, "age"),
+                            "city", new ObjectPathValueProvider(user, "address.city")
+                        )
+                    )
+                )
+            )
+        );
+        Assertions.assertThat(context.decisionFor("adult-citizen"))
+            .containsEntry("outcome", "false");
+        context.setValueFor("request", "id", "42");
+        Assertions.assertThat(context.decisionFor("adult-citizen"))
+            .containsEntry("outcome", "true");
+        Assertions.assertThat(users.calls.get()).isEqualTo(2);
+    }
+
+    private static ComputationContext context() {
+        return RemoteDataValueProviderTest.context(new State(List.of()));
+    }
+
+    private static ComputationContext context(final State state) {
+        return new ComputationContext(
+            state,
+            DecisionTables.using(
+                () -> List.of(
+                    new SourceLines(
+                        "adult-citizen",
+                        List.of(
+                            "CND;user::age;!<18;<18",
+                            "CND;user::city;Yerevan;~",
+                            "OUT;outcome;true;false"
+                        ),
+                        ";"
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * The in-process fake of a remote source of users, counting its calls.
+     *
+     * @since 0.10.0
+     */
+    private static final class FakeUsers
+        implements RemoteDataSource<Map<String, Object>, String> {
+        /**
+         * The number of fetches.
+         */
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Map<String, Object> fetch(final String key) {
+            this.calls.incrementAndGet();
+            final int age;
+            if ("7".equals(key)) {
+                age = 15;
+            } else {
+                age = 37;
+            }
+            return Map.of("id", key, "age", age, "address", Map.of("city", "Yerevan"));
+        }
+
+        /**
+         * Provides the user with the specified identifier.
+         *
+         * @param id The identifier of the user.
+         * @return The provider of the user.
+         */
+        ValueProvider<Map<String, Object>> byId(final String id) {
+            return new RemoteDataValueProvider<>("users", this, new ConstantValueProvider<>(id));
+        }
+    }
+}